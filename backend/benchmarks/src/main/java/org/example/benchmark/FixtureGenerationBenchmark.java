@@ -0,0 +1,39 @@
+package org.example.benchmark;
+
+import org.example.service.FixtureScheduler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocation of schedule generation. A round-robin of 1415 players has 1,000,405 games, so the
+ * {@code roundRobin} score at that size is the cost per million generated games; {@code gc.alloc.rate.norm}
+ * from the GC profiler shows that generation itself does not allocate per game. Persistence is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FixtureGenerationBenchmark {
+
+    @Param({"1415", "4473"})
+    private int players;
+
+    @Benchmark
+    public void roundRobin(Blackhole blackhole) {
+        FixtureScheduler.roundRobin(players, false, (round, home, away) -> blackhole.consume(round + home + away));
+    }
+
+    @Benchmark
+    public void doubleRoundRobin(Blackhole blackhole) {
+        FixtureScheduler.roundRobin(players, true, (round, home, away) -> blackhole.consume(round + home + away));
+    }
+
+    @Benchmark
+    public void knockoutFirstRound(Blackhole blackhole) {
+        FixtureScheduler.knockoutFirstRound(players, (round, home, away) -> blackhole.consume(round + home + away));
+    }
+}
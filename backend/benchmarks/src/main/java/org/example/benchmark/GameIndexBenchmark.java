@@ -0,0 +1,148 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the hot game queries on an H2 database built by the Flyway migrations, with the initial schema
+ * only ({@code V1}) and with the query indexes ({@code V2}). The query plans of both schemas are printed during
+ * setup, so a run shows which index each query uses next to what it costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GameIndexBenchmark {
+    private static final int PLAYERS = 2000;
+    private static final int TOURNAMENTS = 100;
+
+    private static final String TOURNAMENT_GAMES_SQL =
+            "select id, player1_id, player2_id, team1_id, team2_id, score1, score2, created_at, updated_at, " +
+            "tournament_id, version, round from games where tournament_id = ? order by id";
+    private static final String TOURNAMENT_RESULTS_SQL =
+            "select player1_id, player2_id, score1, score2 from games where tournament_id = ?";
+    private static final String PLAYER_GAMES_SQL =
+            "select tournament_id, score1, score2 from games where player1_id = ? " +
+            "union all select tournament_id, score2, score1 from games where player2_id = ?";
+    private static final String LAST_ROUND_SQL = "select max(round) from games where tournament_id = ?";
+
+    @Param({"V1", "V2"})
+    private String schema;
+
+    @Param({"1000000"})
+    private int gameCount;
+
+    private Connection connection;
+    private PreparedStatement tournamentGames;
+    private PreparedStatement tournamentResults;
+    private PreparedStatement playerGames;
+    private PreparedStatement lastRound;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:games_" + schema + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("runscript from 'classpath:/db/migration/V1__initial_schema.sql'");
+            if (schema.equals("V2")) {
+                statement.execute("runscript from 'classpath:/db/migration/V2__game_query_indexes.sql'");
+            }
+            statement.execute("insert into players (name, created_at) " +
+                    "select 'Player ' || x, current_timestamp from system_range(1, " + PLAYERS + ")");
+            statement.execute("insert into tournaments (name, created_at) " +
+                    "select 'Tournament ' || x, current_timestamp from system_range(1, " + TOURNAMENTS + ")");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into games (id, player1_id, player2_id, score1, score2, round, version, created_at, " +
+                "tournament_id) select x, mod(x * 7, " + PLAYERS + ") + 1, mod(x * 13 + 1, " + PLAYERS + ") + 1, " +
+                "case when mod(x, 10) = 0 then null else mod(x, 5) end, " +
+                "case when mod(x, 10) = 0 then null else mod(x / 5, 4) end, " +
+                "mod(x, 38) + 1, 0, current_timestamp, mod(x, " + TOURNAMENTS + ") + 1 " +
+                "from system_range(1, ?)")) {
+            insert.setInt(1, gameCount);
+            insert.executeUpdate();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+        tournamentGames = connection.prepareStatement(TOURNAMENT_GAMES_SQL);
+        tournamentResults = connection.prepareStatement(TOURNAMENT_RESULTS_SQL);
+        playerGames = connection.prepareStatement(PLAYER_GAMES_SQL);
+        lastRound = connection.prepareStatement(LAST_ROUND_SQL);
+        random = new SplittableRandom(42);
+
+        printPlan(TOURNAMENT_GAMES_SQL, 1);
+        printPlan(TOURNAMENT_RESULTS_SQL, 1);
+        printPlan(PLAYER_GAMES_SQL, 2);
+        printPlan(LAST_ROUND_SQL, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void tournamentGames(Blackhole blackhole) throws SQLException {
+        tournamentGames.setLong(1, random.nextInt(TOURNAMENTS) + 1);
+        consume(tournamentGames, blackhole);
+    }
+
+    @Benchmark
+    public void tournamentResults(Blackhole blackhole) throws SQLException {
+        tournamentResults.setLong(1, random.nextInt(TOURNAMENTS) + 1);
+        consume(tournamentResults, blackhole);
+    }
+
+    @Benchmark
+    public void playerGames(Blackhole blackhole) throws SQLException {
+        long playerId = random.nextInt(PLAYERS) + 1;
+        playerGames.setLong(1, playerId);
+        playerGames.setLong(2, playerId);
+        consume(playerGames, blackhole);
+    }
+
+    @Benchmark
+    public void lastRound(Blackhole blackhole) throws SQLException {
+        lastRound.setLong(1, random.nextInt(TOURNAMENTS) + 1);
+        consume(lastRound, blackhole);
+    }
+
+    private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = query.executeQuery()) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                for (int column = 1; column <= columns; column++) {
+                    blackhole.consume(rs.getObject(column));
+                }
+            }
+        }
+    }
+
+    private void printPlan(String sql, int parameters) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+            for (int i = 1; i <= parameters; i++) {
+                explain.setLong(i, 1);
+            }
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    System.out.println("[" + schema + "] " + rs.getString(1));
+                }
+            }
+        }
+    }
+}
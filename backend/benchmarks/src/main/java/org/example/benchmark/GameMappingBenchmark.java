@@ -0,0 +1,42 @@
+package org.example.benchmark;
+
+import org.example.dto.GameDTO;
+import org.example.mapper.GameMapper;
+import org.example.model.Game;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the MapStruct {@code Game} to {@code GameDTO} mapping used by the games listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GameMappingBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int gameCount;
+
+    private GameMapper gameMapper;
+    private List<Game> games;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameMapper = Mappers.getMapper(GameMapper.class);
+        games = SyntheticTournament.games(gameCount, SyntheticTournament.playersFor(gameCount));
+    }
+
+    @Benchmark
+    public List<GameDTO> toDTOList() {
+        return games.stream()
+                .map(gameMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+}
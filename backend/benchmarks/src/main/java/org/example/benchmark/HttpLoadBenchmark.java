@@ -0,0 +1,127 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing the platform-thread and virtual-thread modes of a running server.
+ * Each of {@code concurrency} clients sends the next request as soon as the previous one completes; after the
+ * warm-up period throughput and latency percentiles are reported. Non-2xx responses (e.g. 503 from admission
+ * control) are counted as errors and excluded from the latency distribution.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.example.benchmark.HttpLoadBenchmark \
+ *     http://localhost:8080/api/tournaments/1/games 1000 30 10
+ * </pre>
+ */
+public final class HttpLoadBenchmark {
+
+    private HttpLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: HttpLoadBenchmark <url> [concurrency=500] [durationSeconds=30] [warmupSeconds=10]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0]);
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        long durationNanos = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30).toNanos();
+        long warmupNanos = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 10).toNanos();
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        List<long[]> latencies = new ArrayList<>(concurrency);
+        int[] counts = new int[concurrency];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            long[] samples = new long[1 << 16];
+            latencies.add(samples);
+            int worker = i;
+            workers.execute(() -> {
+                long[] buffer = samples;
+                int n = 0;
+                try {
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException e) {
+                            status = -1;
+                        }
+                        long finished = System.nanoTime();
+                        if (now < measureFrom) {
+                            continue;
+                        }
+                        if (status < 200 || status >= 300) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (n == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, n * 2);
+                            latencies.set(worker, buffer);
+                        }
+                        buffer[n++] = finished - now;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    counts[worker] = n;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (int i = 0; i < concurrency; i++) {
+            System.arraycopy(latencies.get(i), 0, all, offset, counts[i]);
+            offset += counts[i];
+        }
+        Arrays.sort(all);
+
+        double seconds = durationNanos / 1e9;
+        System.out.printf("url=%s concurrency=%d duration=%.0fs%n", uri, concurrency, seconds);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n", total, errors.get(), total / seconds);
+        System.out.printf("p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99), percentile(all, 0.999),
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+        System.exit(0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
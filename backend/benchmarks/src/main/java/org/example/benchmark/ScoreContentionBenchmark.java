@@ -0,0 +1,121 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.GameDTO;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hammers the score of a single game from many concurrent clients against a running server and checks for lost
+ * updates. Every client performs {@code increments} read-modify-write cycles adding one goal to {@code score1}:
+ * <ul>
+ *     <li>{@code cas}: the write carries {@code If-Match} with the version read; on 409 the client re-reads
+ *     and tries again. The final score must equal the initial score plus every increment.</li>
+ *     <li>{@code blind}: the write carries no version, as before optimistic locking. Increments are lost
+ *     whenever two clients read the same state.</li>
+ * </ul>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar org.example.benchmark.ScoreContentionBenchmark \
+ *     http://localhost:8080 1 1 32 100 cas
+ * </pre>
+ */
+public final class ScoreContentionBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private ScoreContentionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: ScoreContentionBenchmark <baseUrl> <tournamentId> <gameId> "
+                    + "[clients=32] [increments=100] [cas|blind]");
+            System.exit(1);
+        }
+        String baseUrl = args[0];
+        long tournamentId = Long.parseLong(args[1]);
+        long gameId = Long.parseLong(args[2]);
+        int clients = args.length > 3 ? Integer.parseInt(args[3]) : 32;
+        int increments = args.length > 4 ? Integer.parseInt(args[4]) : 100;
+        boolean cas = args.length <= 5 || "cas".equals(args[5]);
+
+        HttpClient client = HttpClient.newHttpClient();
+        URI gamesUri = URI.create(baseUrl + "/api/tournaments/" + tournamentId + "/games");
+        URI scoreUri = URI.create(baseUrl + "/api/tournaments/games/" + gameId + "/scores");
+        GameDTO initial = readGame(client, gamesUri, gameId);
+        int initialScore = initial.getScore1() != null ? initial.getScore1() : 0;
+
+        AtomicLong conflicts = new AtomicLong();
+        ExecutorService workers = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>(clients);
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            futures.add(workers.submit(() -> {
+                GameDTO known = readGame(client, gamesUri, gameId);
+                for (int done = 0; done < increments; ) {
+                    int score1 = (known.getScore1() != null ? known.getScore1() : 0) + 1;
+                    int score2 = known.getScore2() != null ? known.getScore2() : 0;
+                    HttpRequest.Builder put = HttpRequest.newBuilder(scoreUri)
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofString(
+                                    MAPPER.writeValueAsString(Map.of("score1", score1, "score2", score2))));
+                    if (cas) {
+                        put.header("If-Match", "\"" + known.getVersion() + "\"");
+                    }
+                    HttpResponse<String> response = client.send(put.build(), HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 200) {
+                        done++;
+                        known = cas ? MAPPER.readValue(response.body(), GameDTO.class)
+                                : readGame(client, gamesUri, gameId);
+                    } else if (response.statusCode() == 409) {
+                        conflicts.incrementAndGet();
+                        known = readGame(client, gamesUri, gameId);
+                    } else {
+                        throw new IllegalStateException("Unexpected response " + response.statusCode()
+                                + ": " + response.body());
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        workers.shutdown();
+
+        GameDTO result = readGame(client, gamesUri, gameId);
+        long expected = initialScore + (long) clients * increments;
+        long actual = result.getScore1() != null ? result.getScore1() : 0;
+        System.out.printf("mode=%s clients=%d increments=%d%n", cas ? "cas" : "blind", clients, increments);
+        System.out.printf("expected score1=%d actual=%d lost updates=%d conflicts=%d%n",
+                expected, actual, expected - actual, conflicts.get());
+        System.out.printf("duration=%.2fs throughput=%.1f updates/s%n", seconds, clients * increments / seconds);
+    }
+
+    private static GameDTO readGame(HttpClient client, URI gamesUri, long gameId)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(gamesUri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        for (GameDTO game : MAPPER.readValue(response.body(), GameDTO[].class)) {
+            if (game.getId() == gameId) {
+                return game;
+            }
+        }
+        throw new IllegalStateException("Game " + gameId + " not found in " + gamesUri);
+    }
+}
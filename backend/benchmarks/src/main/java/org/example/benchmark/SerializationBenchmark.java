@@ -0,0 +1,105 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.dto.GameDTO;
+import org.example.dto.TournamentStatsDTO;
+import org.example.mapper.GameMapper;
+import org.example.model.Game;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.mapstruct.factory.Mappers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures Jackson serialization of the games listing and the stats response,
+ * configured like the Spring Boot default {@link ObjectMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int gameCount;
+
+    private ObjectMapper objectMapper;
+    private List<GameDTO> gameDTOs;
+    private TournamentStatsDTO stats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        int playerCount = SyntheticTournament.playersFor(gameCount);
+        List<Game> games = SyntheticTournament.games(gameCount, playerCount);
+        GameMapper gameMapper = Mappers.getMapper(GameMapper.class);
+        gameDTOs = games.stream()
+                .map(gameMapper::toDTO)
+                .collect(Collectors.toList());
+
+        stats = new TournamentStatsDTO();
+        stats.setTournamentId(1L);
+        stats.setTotalGames(gameCount);
+        stats.setCompletedGames(gameCount);
+        List<TournamentStatsDTO.PlayerStats> playerStats = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            TournamentStatsDTO.PlayerStats ps = new TournamentStatsDTO.PlayerStats();
+            ps.setPlayerId((long) i + 1);
+            ps.setPlayerName("Player " + (i + 1));
+            ps.setGamesPlayed(200);
+            ps.setWins(90);
+            ps.setDraws(30);
+            ps.setLosses(80);
+            ps.setGoalsFor(420);
+            ps.setGoalsAgainst(390);
+            playerStats.add(ps);
+        }
+        stats.setPlayerStats(playerStats);
+    }
+
+    @Benchmark
+    public void serializeGames(Blackhole blackhole) throws IOException {
+        objectMapper.writeValue(new BlackholeOutputStream(blackhole), gameDTOs);
+    }
+
+    @Benchmark
+    public void serializeStats(Blackhole blackhole) throws IOException {
+        objectMapper.writeValue(new BlackholeOutputStream(blackhole), stats);
+    }
+
+    /**
+     * Discards the serialized bytes so buffer growth does not dominate the measurement.
+     */
+    private static final class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        private BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(len);
+        }
+    }
+}
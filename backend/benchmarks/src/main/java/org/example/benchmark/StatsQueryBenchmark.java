@@ -0,0 +1,139 @@
+package org.example.benchmark;
+
+import org.example.dto.TournamentStatsDTO;
+import org.example.model.Game;
+import org.example.repository.GameRepository;
+import org.example.service.StatsAccumulator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.jpa.repository.Query;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recomputing the standings of one tournament on H2 with the migrated schema: the former path, which streams every
+ * game over JDBC into a {@link StatsAccumulator}, against {@link GameRepository#aggregatePlayerResults}, which
+ * returns one row per player. The aggregation SQL is read from the repository annotation, so the benchmark always
+ * runs the production query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StatsQueryBenchmark {
+    private static final String GAME_RESULTS_SQL =
+            "select player1_id, player2_id, score1, score2 from games where tournament_id = ?";
+    private static final int FETCH_SIZE = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int gameCount;
+
+    private Connection connection;
+    private PreparedStatement gameResults;
+    private PreparedStatement playerResults;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:stats;DB_CLOSE_DELAY=-1", "sa", "");
+        int playerCount = SyntheticTournament.playersFor(gameCount);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("runscript from 'classpath:/db/migration/V1__initial_schema.sql'");
+            statement.execute("runscript from 'classpath:/db/migration/V2__game_query_indexes.sql'");
+            statement.execute("insert into players (name, created_at) " +
+                    "select 'Player ' || x, current_timestamp from system_range(1, " + playerCount + ")");
+            statement.execute("insert into tournaments (name, created_at) values ('Benchmark Cup', current_timestamp)");
+        }
+        List<Game> games = SyntheticTournament.games(gameCount, playerCount);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into games (id, player1_id, player2_id, score1, score2, version, created_at, tournament_id) " +
+                "values (?, ?, ?, ?, ?, 0, current_timestamp, 1)")) {
+            for (Game game : games) {
+                insert.setLong(1, game.getId());
+                insert.setLong(2, game.getPlayer1().getId());
+                insert.setLong(3, game.getPlayer2().getId());
+                setScore(insert, 4, game.getScore1());
+                setScore(insert, 5, game.getScore2());
+                insert.addBatch();
+                if (game.getId() % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+
+        String aggregationSql = GameRepository.class.getMethod("aggregatePlayerResults", Long.class)
+                .getAnnotation(Query.class).value().replace(":tournamentId", "?");
+        playerResults = connection.prepareStatement(aggregationSql);
+        playerResults.setLong(1, 1);
+        playerResults.setLong(2, 1);
+        gameResults = connection.prepareStatement(GAME_RESULTS_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        gameResults.setFetchSize(FETCH_SIZE);
+        gameResults.setLong(1, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public Map<Long, TournamentStatsDTO.PlayerStats> javaAggregation() throws SQLException {
+        StatsAccumulator accumulator = new StatsAccumulator();
+        try (ResultSet rs = gameResults.executeQuery()) {
+            while (rs.next()) {
+                long player1Id = rs.getLong(1);
+                long player2Id = rs.getLong(2);
+                int score1 = rs.getInt(3);
+                boolean complete = !rs.wasNull();
+                int score2 = rs.getInt(4);
+                if (complete && !rs.wasNull()) {
+                    accumulator.addResult(player1Id, player2Id, score1, score2);
+                } else {
+                    accumulator.addParticipant(player1Id);
+                    accumulator.addParticipant(player2Id);
+                }
+            }
+        }
+        return accumulator.toPlayerStats();
+    }
+
+    @Benchmark
+    public void sqlAggregation(Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = playerResults.executeQuery()) {
+            while (rs.next()) {
+                for (int column = 1; column <= 7; column++) {
+                    blackhole.consume(rs.getLong(column));
+                }
+            }
+        }
+    }
+
+    private static void setScore(PreparedStatement statement, int index, Integer score) throws SQLException {
+        if (score != null) {
+            statement.setInt(index, score);
+        } else {
+            statement.setNull(index, Types.INTEGER);
+        }
+    }
+}
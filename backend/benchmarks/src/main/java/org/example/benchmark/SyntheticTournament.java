@@ -0,0 +1,77 @@
+package org.example.benchmark;
+
+import org.example.model.Game;
+import org.example.model.Player;
+import org.example.model.Team;
+import org.example.model.Tournament;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds deterministic in-memory tournaments for the benchmarks.
+ */
+public final class SyntheticTournament {
+    private static final long SEED = 42L;
+
+    private SyntheticTournament() {
+    }
+
+    /**
+     * Creates {@code gameCount} games between {@code playerCount} players; roughly one game in ten has no score yet.
+     */
+    public static List<Game> games(int gameCount, int playerCount) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setName("Benchmark Cup");
+
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            Player player = new Player();
+            player.setId((long) i + 1);
+            player.setName("Player " + (i + 1));
+            players.add(player);
+        }
+        Team team1 = team(1L);
+        Team team2 = team(2L);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Game> games = new ArrayList<>(gameCount);
+        for (int i = 0; i < gameCount; i++) {
+            int p1 = random.nextInt(playerCount);
+            int p2 = (p1 + 1 + random.nextInt(playerCount - 1)) % playerCount;
+            Game game = new Game();
+            game.setId((long) i + 1);
+            game.setTournament(tournament);
+            game.setPlayer1(players.get(p1));
+            game.setPlayer2(players.get(p2));
+            game.setTeam1(team1);
+            game.setTeam2(team2);
+            if (random.nextInt(10) != 0) {
+                game.setScore1(random.nextInt(6));
+                game.setScore2(random.nextInt(6));
+            }
+            game.setCreatedAt(now);
+            game.setUpdatedAt(now);
+            games.add(game);
+        }
+        return games;
+    }
+
+    /**
+     * Player count used for a tournament of the given size: one player per hundred games, at least 16.
+     */
+    public static int playersFor(int gameCount) {
+        return Math.max(16, gameCount / 100);
+    }
+
+    private static Team team(Long id) {
+        Team team = new Team();
+        team.setId(id);
+        team.setName("Team " + id);
+        return team;
+    }
+}
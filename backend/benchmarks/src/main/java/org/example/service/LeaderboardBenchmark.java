@@ -0,0 +1,87 @@
+package org.example.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of keeping a {@link Leaderboard} ordered as results come in, and of the reads behind the leaderboard
+ * endpoints, against sorting every row on each read as clients of {@code /stats} have to. The per-operation
+ * scores of the treap grow with {@code log(players)} while {@code sortAll} grows with {@code players}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class LeaderboardBenchmark {
+
+    @Param({"1000", "100000", "500000"})
+    private int players;
+
+    private Leaderboard leaderboard;
+    private int[] wins;
+    private int[] draws;
+    private int[] goalsFor;
+    private int[] goalsAgainst;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        leaderboard = new Leaderboard(players);
+        wins = new int[players];
+        draws = new int[players];
+        goalsFor = new int[players];
+        goalsAgainst = new int[players];
+        for (int i = 0; i < players; i++) {
+            wins[i] = random.nextInt(20);
+            draws[i] = random.nextInt(10);
+            goalsFor[i] = random.nextInt(80);
+            goalsAgainst[i] = random.nextInt(80);
+            leaderboard.put(i + 1, wins[i], draws[i], goalsFor[i], goalsAgainst[i]);
+        }
+    }
+
+    /**
+     * One recorded win: the scorer moves up the board.
+     */
+    @Benchmark
+    public int recordWin() {
+        int i = random.nextInt(players);
+        wins[i]++;
+        goalsFor[i] += 2;
+        goalsAgainst[i]++;
+        leaderboard.put(i + 1, wins[i], draws[i], goalsFor[i], goalsAgainst[i]);
+        return leaderboard.size();
+    }
+
+    @Benchmark
+    public int rankOf() {
+        return leaderboard.rankOf(random.nextInt(players) + 1);
+    }
+
+    @Benchmark
+    public long[] topTen() {
+        return leaderboard.range(0, 10);
+    }
+
+    @Benchmark
+    public long[] pageInTheMiddle() {
+        return leaderboard.range(players / 2, 50);
+    }
+
+    @Benchmark
+    public long sortAll() {
+        long[] keys = new long[players];
+        for (int i = 0; i < players; i++) {
+            long points = Leaderboard.points(wins[i], draws[i]);
+            keys[i] = (points << 40) | ((long) (goalsFor[i] - goalsAgainst[i] + 100_000) << 20) | goalsFor[i];
+        }
+        Arrays.sort(keys);
+        return keys[players - 1];
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.service;
+
+import org.example.benchmark.SyntheticTournament;
+import org.example.dto.TournamentStatsDTO;
+import org.example.model.Game;
+import org.example.model.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares in-memory standings aggregation: the former entity-based version, which walks a {@code List<Game>} into
+ * a {@code HashMap} of boxed DTOs, against {@link StatsAccumulator} fed with primitive columns as read from JDBC.
+ * With the GC profiler the accumulator's {@code gc.alloc.rate.norm} stays flat as {@code gameCount} grows.
+ * {@code StatsQueryBenchmark} compares it with the aggregation now done by the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StatsAggregationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int gameCount;
+
+    private List<Game> games;
+    private long[] player1Ids;
+    private long[] player2Ids;
+    private int[] scores1;
+    private int[] scores2;
+    private boolean[] complete;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        games = SyntheticTournament.games(gameCount, SyntheticTournament.playersFor(gameCount));
+        player1Ids = new long[gameCount];
+        player2Ids = new long[gameCount];
+        scores1 = new int[gameCount];
+        scores2 = new int[gameCount];
+        complete = new boolean[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            Game game = games.get(i);
+            player1Ids[i] = game.getPlayer1().getId();
+            player2Ids[i] = game.getPlayer2().getId();
+            complete[i] = game.getScore1() != null && game.getScore2() != null;
+            if (complete[i]) {
+                scores1[i] = game.getScore1();
+                scores2[i] = game.getScore2();
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Long, TournamentStatsDTO.PlayerStats> entityAggregation() {
+        Map<Long, TournamentStatsDTO.PlayerStats> playerStatsMap = new HashMap<>();
+        games.stream()
+            .filter(game -> game.getScore1() != null && game.getScore2() != null)
+            .forEach(game -> {
+                updatePlayerStats(playerStatsMap, game.getPlayer1(), game.getScore1(), game.getScore2());
+                updatePlayerStats(playerStatsMap, game.getPlayer2(), game.getScore2(), game.getScore1());
+            });
+        return playerStatsMap;
+    }
+
+    @Benchmark
+    public Map<Long, TournamentStatsDTO.PlayerStats> primitiveAggregation() {
+        StatsAccumulator accumulator = new StatsAccumulator();
+        for (int i = 0; i < gameCount; i++) {
+            if (complete[i]) {
+                accumulator.addResult(player1Ids[i], player2Ids[i], scores1[i], scores2[i]);
+            } else {
+                accumulator.addParticipant(player1Ids[i]);
+                accumulator.addParticipant(player2Ids[i]);
+            }
+        }
+        return accumulator.toPlayerStats();
+    }
+
+    private static void updatePlayerStats(Map<Long, TournamentStatsDTO.PlayerStats> playerStatsMap,
+                                          Player player, int goalsFor, int goalsAgainst) {
+        TournamentStatsDTO.PlayerStats playerStats = playerStatsMap.computeIfAbsent(player.getId(), k -> {
+            TournamentStatsDTO.PlayerStats ps = new TournamentStatsDTO.PlayerStats();
+            ps.setPlayerId(player.getId());
+            ps.setPlayerName(player.getName());
+            return ps;
+        });
+        playerStats.setGamesPlayed(playerStats.getGamesPlayed() + 1);
+        playerStats.setGoalsFor(playerStats.getGoalsFor() + goalsFor);
+        playerStats.setGoalsAgainst(playerStats.getGoalsAgainst() + goalsAgainst);
+        if (goalsFor > goalsAgainst) {
+            playerStats.setWins(playerStats.getWins() + 1);
+        } else if (goalsFor == goalsAgainst) {
+            playerStats.setDraws(playerStats.getDraws() + 1);
+        } else {
+            playerStats.setLosses(playerStats.getLosses() + 1);
+        }
+    }
+}
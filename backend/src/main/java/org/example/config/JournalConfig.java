@@ -0,0 +1,22 @@
+package org.example.config;
+
+import org.example.journal.ScoreJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+public class JournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public ScoreJournal scoreJournal(@Value("${app.journal.directory:./data/journal}") String directory,
+                                     @Value("${app.journal.segment-size:67108864}") long segmentSize)
+            throws IOException {
+        return new ScoreJournal(Path.of(directory), segmentSize);
+    }
+}
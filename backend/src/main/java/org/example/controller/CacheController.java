@@ -0,0 +1,45 @@
+package org.example.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.dto.CacheStatsDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheController {
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public CacheController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @GetMapping
+    public List<CacheStatsDTO> getCacheStats() {
+        List<CacheStatsDTO> result = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+                continue;
+            }
+            CacheStats stats = nativeCache.stats();
+            CacheStatsDTO dto = new CacheStatsDTO();
+            dto.setName(name);
+            dto.setSize(nativeCache.estimatedSize());
+            dto.setHitCount(stats.hitCount());
+            dto.setMissCount(stats.missCount());
+            dto.setHitRate(stats.hitRate());
+            dto.setEvictionCount(stats.evictionCount());
+            result.add(dto);
+        }
+        return result;
+    }
+}
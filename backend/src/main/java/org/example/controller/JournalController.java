@@ -0,0 +1,35 @@
+package org.example.controller;
+
+import jakarta.validation.constraints.Min;
+import org.example.dto.JournalStatusDTO;
+import org.example.dto.TournamentStatsDTO;
+import org.example.service.JournalReplayService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/journal")
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+public class JournalController {
+    private final JournalReplayService journalReplayService;
+
+    @Autowired
+    public JournalController(JournalReplayService journalReplayService) {
+        this.journalReplayService = journalReplayService;
+    }
+
+    @GetMapping
+    public JournalStatusDTO getStatus() {
+        return journalReplayService.getStatus();
+    }
+
+    /**
+     * Standings of a tournament replayed from the journal, for comparison with {@code /api/tournaments/{id}/stats}.
+     */
+    @GetMapping("/tournaments/{tournamentId}/standings")
+    public TournamentStatsDTO replayStandings(@PathVariable Long tournamentId,
+                                             @RequestParam(defaultValue = "0") @Min(0) long from) {
+        return journalReplayService.replayStandings(tournamentId, from);
+    }
+}
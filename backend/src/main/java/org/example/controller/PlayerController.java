@@ -1,14 +1,20 @@
 package org.example.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.example.dto.CareerStatsDTO;
 import org.example.dto.CreatePlayerRequest;
+import org.example.dto.CursorPageDTO;
 import org.example.dto.PlayerDTO;
 import org.example.mapper.PlayerMapper;
 import org.example.model.Player;
+import org.example.monitoring.QueryBudget;
+import org.example.service.PlayerCareerService;
 import org.example.service.PlayerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -18,30 +24,71 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/players")
 public class PlayerController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final PlayerService playerService;
+    private final PlayerCareerService playerCareerService;
     private final PlayerMapper playerMapper;
 
     @Autowired
-    public PlayerController(PlayerService playerService, PlayerMapper playerMapper) {
+    public PlayerController(PlayerService playerService,
+                            PlayerCareerService playerCareerService,
+                            PlayerMapper playerMapper) {
         this.playerService = playerService;
+        this.playerCareerService = playerCareerService;
         this.playerMapper = playerMapper;
     }
 
     @GetMapping
+    @QueryBudget(1)
     public List<PlayerDTO> getAllPlayers() {
         return playerService.findAll().stream()
                 .map(playerMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @GetMapping(params = "limit")
+    @QueryBudget(1)
+    public CursorPageDTO<PlayerDTO> getPlayersPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        List<PlayerDTO> rows = playerService.findPage(after, limit + 1).stream()
+                .map(playerMapper::toDTO)
+                .collect(Collectors.toList());
+        return CursorPageDTO.of(rows, limit, PlayerDTO::getId);
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(1)
     public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable Long id) {
         return playerService.findById(id)
-                .map(playerMapper::toDTO)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Totals of a player across all tournaments; {@code byTournament=true} adds one record per tournament.
+     */
+    @GetMapping("/{id}/career")
+    @QueryBudget(2)
+    public ResponseEntity<CareerStatsDTO> getCareer(@PathVariable Long id,
+                                                    @RequestParam(defaultValue = "false") boolean byTournament) {
+        return playerCareerService.getCareer(id, byTournament)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Career stats of many players with the same two queries as for one, e.g. {@code ?ids=1,2,3}.
+     * Unknown ids are left out.
+     */
+    @GetMapping("/career")
+    @QueryBudget(2)
+    public List<CareerStatsDTO> getCareers(@RequestParam @Size(min = 1, max = MAX_PAGE_SIZE) List<Long> ids,
+                                           @RequestParam(defaultValue = "false") boolean byTournament) {
+        return playerCareerService.getCareers(ids, byTournament);
+    }
+
     @PostMapping
     public ResponseEntity<PlayerDTO> createPlayer(@Valid @RequestBody CreatePlayerRequest request) {
         Player player = playerMapper.toEntity(request);
@@ -54,16 +101,11 @@ public class PlayerController {
     }
 
     @PutMapping("/{id}")
-    @Transactional
     public ResponseEntity<PlayerDTO> updatePlayer(
             @PathVariable Long id,
             @Valid @RequestBody CreatePlayerRequest updatePlayerRequest) {
-        return playerService.findById(id)
-                .map(existingPlayer -> {
-                    playerMapper.updateFromDto(updatePlayerRequest, existingPlayer);
-                    return ResponseEntity.ok(playerMapper.toDTO(existingPlayer));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        Player updatedPlayer = playerService.update(id, playerMapper.toEntity(updatePlayerRequest));
+        return ResponseEntity.ok(playerMapper.toDTO(updatedPlayer));
     }
 
     @DeleteMapping("/{id}")
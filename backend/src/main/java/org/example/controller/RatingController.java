@@ -0,0 +1,45 @@
+package org.example.controller;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.example.dto.PlayerRatingDTO;
+import org.example.dto.RatingRecomputeResultDTO;
+import org.example.monitoring.QueryBudget;
+import org.example.service.RatingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/ratings")
+public class RatingController {
+    private static final int MAX_TOP = 1000;
+
+    private final RatingService ratingService;
+
+    @Autowired
+    public RatingController(RatingService ratingService) {
+        this.ratingService = ratingService;
+    }
+
+    @GetMapping("/players/{playerId}")
+    @QueryBudget(1)
+    public ResponseEntity<PlayerRatingDTO> getPlayerRating(@PathVariable Long playerId) {
+        return ratingService.getRating(playerId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/top")
+    @QueryBudget(1)
+    public List<PlayerRatingDTO> getTopRated(@RequestParam(defaultValue = "10") @Min(1) @Max(MAX_TOP) int limit) {
+        return ratingService.getTopRated(limit);
+    }
+
+    @PostMapping("/recompute")
+    public RatingRecomputeResultDTO recompute() {
+        return ratingService.recomputeAll();
+    }
+}
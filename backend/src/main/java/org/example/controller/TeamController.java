@@ -1,14 +1,17 @@
 package org.example.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.example.dto.CreateTeamRequest;
+import org.example.dto.CursorPageDTO;
 import org.example.dto.TeamDTO;
 import org.example.mapper.TeamMapper;
 import org.example.model.Team;
+import org.example.monitoring.QueryBudget;
 import org.example.service.TeamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -18,6 +21,8 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/teams")
 public class TeamController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TeamService teamService;
     private final TeamMapper teamMapper;
 
@@ -28,16 +33,29 @@ public class TeamController {
     }
 
     @GetMapping
+    @QueryBudget(1)
     public List<TeamDTO> getAllTeams() {
         return teamService.findAll().stream()
                 .map(teamMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @GetMapping(params = "limit")
+    @QueryBudget(1)
+    public CursorPageDTO<TeamDTO> getTeamsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        List<TeamDTO> rows = teamService.findPage(after, limit + 1).stream()
+                .map(teamMapper::toDTO)
+                .collect(Collectors.toList());
+        return CursorPageDTO.of(rows, limit, TeamDTO::getId);
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(1)
     public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long id) {
         return teamService.findById(id)
-                .map(team -> ResponseEntity.ok(teamMapper.toDTO(team)))
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -51,17 +69,12 @@ public class TeamController {
     }
 
     @PutMapping("/{id}")
-    @Transactional
     public ResponseEntity<TeamDTO> updateTeam(
             @PathVariable Long id,
             @Valid @RequestBody CreateTeamRequest updateTeamRequest
     ) {
-        return teamService.findById(id)
-                .map(existingTeam -> {
-                    teamMapper.updateFromDto(updateTeamRequest, existingTeam);
-                    return ResponseEntity.ok(teamMapper.toDTO(existingTeam));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        Team updatedTeam = teamService.update(id, teamMapper.toEntity(updateTeamRequest));
+        return ResponseEntity.ok(teamMapper.toDTO(updatedTeam));
     }
 
     @DeleteMapping("/{id}")
@@ -1,17 +1,34 @@
 package org.example.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.example.dto.*;
 import org.example.mapper.GameMapper;
 import org.example.mapper.TournamentMapper;
 import org.example.model.Game;
 import org.example.model.Tournament;
+import org.example.monitoring.QueryBudget;
+import org.example.service.GameBatchResult;
+import org.example.service.GameExportFormat;
+import org.example.service.GameQueryService;
+import org.example.service.FixtureService;
 import org.example.service.GameService;
+import org.example.service.HeadToHeadService;
+import org.example.service.LeaderboardService;
+import org.example.service.LiveScoreService;
+import org.example.service.TournamentDeletionService;
 import org.example.service.TournamentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
@@ -20,56 +37,136 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/tournaments")
 public class TournamentController {
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TournamentService tournamentService;
+    private final TournamentDeletionService tournamentDeletionService;
     private final GameService gameService;
     private final TournamentMapper tournamentMapper;
     private final GameMapper gameMapper;
+    private final LiveScoreService liveScoreService;
+    private final GameQueryService gameQueryService;
+    private final FixtureService fixtureService;
+    private final LeaderboardService leaderboardService;
+    private final HeadToHeadService headToHeadService;
 
     @Autowired
     public TournamentController(TournamentService tournamentService,
+                              TournamentDeletionService tournamentDeletionService,
                               GameService gameService,
                               TournamentMapper tournamentMapper,
-                              GameMapper gameMapper) {
+                              GameMapper gameMapper,
+                              LiveScoreService liveScoreService,
+                              GameQueryService gameQueryService,
+                              FixtureService fixtureService,
+                              LeaderboardService leaderboardService,
+                              HeadToHeadService headToHeadService) {
         this.tournamentService = tournamentService;
+        this.tournamentDeletionService = tournamentDeletionService;
         this.gameService = gameService;
         this.tournamentMapper = tournamentMapper;
         this.gameMapper = gameMapper;
+        this.liveScoreService = liveScoreService;
+        this.gameQueryService = gameQueryService;
+        this.fixtureService = fixtureService;
+        this.leaderboardService = leaderboardService;
+        this.headToHeadService = headToHeadService;
     }
 
     @GetMapping
+    @QueryBudget(1)
     public List<TournamentDTO> getAllTournaments() {
         return tournamentService.findAll().stream()
                 .map(tournamentMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @GetMapping(params = "limit")
+    @QueryBudget(1)
+    public CursorPageDTO<TournamentDTO> getTournamentsPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam @Min(1) @Max(MAX_PAGE_SIZE) int limit) {
+        List<TournamentDTO> rows = tournamentService.findPage(after, limit + 1).stream()
+                .map(tournamentMapper::toDTO)
+                .collect(Collectors.toList());
+        return CursorPageDTO.of(rows, limit, TournamentDTO::getId);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TournamentDTO> getTournamentById(@PathVariable Long id) {
+    @QueryBudget(2)
+    public ResponseEntity<TournamentDTO> getTournamentById(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(id, request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return tournamentService.findById(id)
-                .map(tournamentMapper::toDTO)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Sets the scores of a game. Sending the game's version in {@code If-Match} (or {@code expectedVersion})
+     * makes the update conditional: if another scorer got there first the response is 409 and nothing changes.
+     * The {@code ETag} of the response is the new version. With write-behind enabled, unconditional updates are
+     * buffered and answered with 202 and no body; they are written within one flush interval.
+     */
     @PutMapping("/games/{gameId}/scores")
+    @QueryBudget(9)
     public ResponseEntity<GameDTO> updateGameScores(
             @PathVariable Long gameId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody GameScoreUpdateDTO scoreUpdate) {
+        if (ifMatch != null && !ifMatch.trim().equals("*")) {
+            scoreUpdate.setExpectedVersion(parseVersion(ifMatch));
+        }
+        if (tournamentService.bufferGameScores(gameId, scoreUpdate)) {
+            return ResponseEntity.accepted().build();
+        }
         Game updatedGame = tournamentService.updateGameScores(gameId, scoreUpdate);
         GameDTO gameDTO = gameMapper.toDTO(updatedGame);
-        return ResponseEntity.ok(gameDTO);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(gameDTO.getVersion()))
+                .body(gameDTO);
     }
 
-    @GetMapping("/{id}/games")
-    public ResponseEntity<List<GameDTO>> getTournamentGames(@PathVariable Long id) {
-        List<Game> games = tournamentService.getTournamentGames(id);
-        List<GameDTO> gameDTOs = games.stream()
+    @PutMapping("/games/scores")
+    public List<GameDTO> updateGameScoresInBulk(@Valid @RequestBody BulkScoreUpdateRequest request) {
+        return tournamentService.updateGameScores(request.getScores()).stream()
                 .map(gameMapper::toDTO)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(gameDTOs);
+    }
+
+    @GetMapping("/{id}/games")
+    @QueryBudget(3)
+    public ResponseEntity<List<GameDTO>> getTournamentGames(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(id, request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(gameQueryService.getTournamentGames(id));
+    }
+
+    /**
+     * Streams all games of a tournament as NDJSON (default) or CSV. Unlike {@code /games}, rows are written
+     * as they are read, so exports of any size run in constant memory.
+     */
+    @GetMapping("/{id}/games/export")
+    public ResponseEntity<StreamingResponseBody> exportTournamentGames(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        GameExportFormat exportFormat = GameExportFormat.fromParameter(format);
+        if (!tournamentService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("tournament-" + id + "-games." + exportFormat.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> gameQueryService.exportTournamentGames(id, exportFormat, out));
     }
 
     @PostMapping("/{tournamentId}/games")
+    @QueryBudget(13)
     @ResponseStatus(HttpStatus.CREATED)
     public GameDTO addGameToTournament(
             @PathVariable Long tournamentId,
@@ -79,6 +176,49 @@ public class TournamentController {
         return gameMapper.toDTO(game);
     }
 
+    @PostMapping("/{tournamentId}/games/batch")
+    public BatchGameResultDTO addGamesToTournament(
+            @PathVariable Long tournamentId,
+            @Valid @RequestBody BatchCreateGamesRequest request) {
+        GameBatchResult result = gameService.createGames(tournamentId, request.getGames());
+        BatchGameResultDTO resultDTO = new BatchGameResultDTO();
+        resultDTO.setCreated(result.getCreated().stream()
+                .map(gameMapper::toDTO)
+                .collect(Collectors.toList()));
+        resultDTO.setErrors(result.getErrors());
+        return resultDTO;
+    }
+
+    /**
+     * Starts generating the whole schedule of a round-robin or double round-robin, or the first round of a
+     * knockout, for a tournament that has no games yet. The response is 202 with the job's status; its progress
+     * can be followed at the {@code Location}.
+     */
+    @PostMapping("/{id}/fixtures")
+    public ResponseEntity<FixtureGenerationDTO> generateFixtures(
+            @PathVariable Long id,
+            @Valid @RequestBody GenerateFixturesRequest request) {
+        FixtureGenerationDTO generation = fixtureService.startGeneration(id, request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tournaments/" + id + "/fixtures/generation"))
+                .body(generation);
+    }
+
+    @PostMapping("/{id}/fixtures/next-round")
+    public ResponseEntity<FixtureGenerationDTO> generateNextKnockoutRound(@PathVariable Long id) {
+        FixtureGenerationDTO generation = fixtureService.startNextKnockoutRound(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tournaments/" + id + "/fixtures/generation"))
+                .body(generation);
+    }
+
+    @GetMapping("/{id}/fixtures/generation")
+    public ResponseEntity<FixtureGenerationDTO> getFixtureGenerationStatus(@PathVariable Long id) {
+        return fixtureService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PostMapping
     public ResponseEntity<TournamentDTO> createTournament(@Valid @RequestBody TournamentDTO tournamentDTO) {
         Tournament tournament = tournamentMapper.toEntity(tournamentDTO);
@@ -106,24 +246,142 @@ public class TournamentController {
         return ResponseEntity.ok(tournamentMapper.toDTO(updatedTournament));
     }
 
+    /**
+     * Starts deleting a tournament with all its games in the background. The response is 202 with the job's
+     * status; its progress can be followed at the {@code Location}.
+     */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTournament(@PathVariable Long id) {
-        tournamentService.delete(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<TournamentDeletionDTO> deleteTournament(@PathVariable Long id) {
+        TournamentDeletionDTO deletion = tournamentDeletionService.startDeletion(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tournaments/" + id + "/deletion"))
+                .body(deletion);
+    }
+
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<TournamentDeletionDTO> getDeletionStatus(@PathVariable Long id) {
+        return tournamentDeletionService.getStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/{id}/stats")
-    public ResponseEntity<TournamentStatsDTO> getTournamentStats(@PathVariable Long id) {
+    @QueryBudget(5)
+    public ResponseEntity<TournamentStatsDTO> getTournamentStats(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(id, request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return tournamentService.getTournamentStats(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Standings ordered by points, goal difference and goals for, paged by rank.
+     */
+    @GetMapping("/{id}/leaderboard")
+    @QueryBudget(2)
+    public ResponseEntity<LeaderboardDTO> getLeaderboard(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) int offset) {
+        return leaderboardService.getLeaderboard(id, offset, limit)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/leaderboard/players/{playerId}")
+    @QueryBudget(2)
+    public ResponseEntity<LeaderboardEntryDTO> getLeaderboardStanding(@PathVariable Long id,
+                                                                       @PathVariable Long playerId) {
+        return leaderboardService.getStanding(id, playerId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Head-to-head record of two players over the completed games of the tournament.
+     */
+    @GetMapping("/{id}/head-to-head")
+    @QueryBudget(1)
+    public ResponseEntity<HeadToHeadDTO> getHeadToHead(@PathVariable Long id,
+                                                       @RequestParam Long p1,
+                                                       @RequestParam Long p2) {
+        return headToHeadService.getHeadToHead(id, p1, p2)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Record of a player against every opponent met in a completed game of the tournament.
+     */
+    @GetMapping("/{id}/head-to-head/{playerId}")
+    @QueryBudget(2)
+    public ResponseEntity<List<OpponentRecordDTO>> getOpponentRecords(@PathVariable Long id,
+                                                                      @PathVariable Long playerId) {
+        return headToHeadService.getOpponentRecords(id, playerId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Server-Sent Events stream of a tournament: an initial {@code standings} snapshot, then
+     * {@code game-created}, {@code score-updated} and {@code game-deleted} events, each batch followed by
+     * a {@code standings} event holding the totals and the rows of the affected players.
+     */
+    @GetMapping(path = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeToTournament(@PathVariable Long id) {
+        if (!tournamentService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(liveScoreService.subscribe(id));
+    }
+
+    @PostMapping("/{id}/standings/rebuild")
+    public ResponseEntity<TournamentStatsDTO> rebuildStandings(@PathVariable Long id) {
+        return tournamentService.rebuildStandings(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/standings/verify")
+    @QueryBudget(3)
+    public ResponseEntity<StandingsVerificationDTO> verifyStandings(@PathVariable Long id) {
+        return tournamentService.verifyStandings(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     @DeleteMapping("/{tournamentId}/games/{gameId}")
+    @QueryBudget(9)
     public ResponseEntity<Void> deleteGame(
             @PathVariable Long tournamentId,
             @PathVariable Long gameId) {
-        gameService.deleteGame(tournamentId, gameId);
+        tournamentService.deleteGame(tournamentId, gameId);
         return ResponseEntity.noContent().build();
     }
+
+    private static Long parseVersion(String eTag) {
+        String value = eTag.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        try {
+            return Long.valueOf(value.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("If-Match must hold a single game version, got: " + eTag);
+        }
+    }
+
+    /**
+     * Checks {@code If-None-Match} against the tournament's revision, read with a single primary key lookup,
+     * so an unchanged tournament is answered with 304 before any games or standings are loaded. The weak
+     * {@code ETag} is set on the response either way. The revision is read before the body, so a concurrent
+     * write can only make the ETag older than the body: the client downloads once more, it never sees stale data.
+     */
+    private boolean isNotModified(Long id, WebRequest request) {
+        return tournamentService.getRevisionTag(id)
+                .map(tag -> request.checkNotModified("W/\"" + tag + "\""))
+                .orElse(false);
+    }
 }
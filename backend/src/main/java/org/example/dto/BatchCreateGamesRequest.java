@@ -0,0 +1,14 @@
+package org.example.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchCreateGamesRequest {
+    @NotEmpty(message = "At least one game is required")
+    @Size(max = 10000, message = "At most 10000 games can be created per batch")
+    private List<CreateGameRequest> games;
+}
@@ -0,0 +1,11 @@
+package org.example.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchGameResultDTO {
+    private List<GameDTO> created;
+    private List<BatchItemErrorDTO> errors;
+}
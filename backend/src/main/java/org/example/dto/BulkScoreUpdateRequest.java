@@ -0,0 +1,15 @@
+package org.example.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkScoreUpdateRequest {
+    @NotEmpty(message = "At least one score is required")
+    @Size(max = 10000, message = "At most 10000 scores can be submitted per request")
+    private List<@Valid GameScoreEntryDTO> scores;
+}
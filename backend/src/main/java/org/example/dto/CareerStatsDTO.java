@@ -0,0 +1,33 @@
+package org.example.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CareerStatsDTO {
+    private Long playerId;
+    private String playerName;
+    private int tournamentsPlayed;
+    private int gamesPlayed;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+    /**
+     * Per-tournament breakdown, only included when requested.
+     */
+    private List<TournamentRecord> tournaments;
+
+    @Data
+    public static class TournamentRecord {
+        private Long tournamentId;
+        private int gamesPlayed;
+        private int wins;
+        private int draws;
+        private int losses;
+        private int goalsFor;
+        private int goalsAgainst;
+    }
+}
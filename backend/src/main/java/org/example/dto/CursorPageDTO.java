@@ -0,0 +1,28 @@
+package org.example.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of an id-ordered keyset listing. Pass {@code nextCursor} as {@code after} to fetch the next page;
+ * it is {@code null} on the last page.
+ */
+@Data
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private Long nextCursor;
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only signals that more data exists.
+     */
+    public static <T> CursorPageDTO<T> of(List<T> rows, int limit, Function<T, Long> idExtractor) {
+        CursorPageDTO<T> page = new CursorPageDTO<>();
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        page.setItems(items);
+        page.setNextCursor(hasMore ? idExtractor.apply(items.get(items.size() - 1)) : null);
+        return page;
+    }
+}
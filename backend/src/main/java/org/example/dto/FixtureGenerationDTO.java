@@ -0,0 +1,29 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.model.FixtureFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureGenerationDTO {
+    private Long tournamentId;
+    private FixtureFormat format;
+    private int firstRound;
+    private int lastRound;
+    private Status status;
+    private long gamesCreated;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
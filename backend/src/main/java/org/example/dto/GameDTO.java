@@ -1,9 +1,14 @@
 package org.example.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class GameDTO {
     private Long id;
     private Long player1Id;
@@ -15,4 +20,6 @@ public class GameDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Long tournamentId;
-}
\ No newline at end of file
+    private Long version;
+    private Integer round;
+}
@@ -0,0 +1,18 @@
+package org.example.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class GameScoreEntryDTO {
+    @NotNull(message = "Game ID is required")
+    private Long gameId;
+
+    @NotNull(message = "Score 1 is required")
+    private Integer score1;
+
+    @NotNull(message = "Score 2 is required")
+    private Integer score2;
+
+    private Long expectedVersion;
+}
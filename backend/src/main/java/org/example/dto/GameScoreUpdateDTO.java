@@ -10,4 +10,10 @@ public class GameScoreUpdateDTO {
     
     @NotNull(message = "Score 2 is required")
     private Integer score2;
+
+    /**
+     * Version the client last saw; when set, the update only applies if the game is still at that version.
+     * The {@code If-Match} header takes precedence.
+     */
+    private Long expectedVersion;
 }
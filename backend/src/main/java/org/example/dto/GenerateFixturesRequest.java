@@ -0,0 +1,22 @@
+package org.example.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import org.example.model.FixtureFormat;
+
+import java.util.List;
+
+@Data
+public class GenerateFixturesRequest {
+    @NotNull(message = "Format is required")
+    private FixtureFormat format;
+
+    /**
+     * Participating players; for knockouts the order is the seeding.
+     */
+    @NotNull(message = "Roster is required")
+    @Size(min = 2, max = 20000, message = "Roster must have between 2 and 20000 players")
+    private List<@Valid RosterEntryDTO> roster;
+}
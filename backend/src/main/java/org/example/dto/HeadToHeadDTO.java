@@ -0,0 +1,16 @@
+package org.example.dto;
+
+import lombok.Data;
+
+@Data
+public class HeadToHeadDTO {
+    private Long tournamentId;
+    private Long player1Id;
+    private Long player2Id;
+    private int games;
+    private int player1Wins;
+    private int player2Wins;
+    private int draws;
+    private int player1Goals;
+    private int player2Goals;
+}
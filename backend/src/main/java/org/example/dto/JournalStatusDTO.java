@@ -0,0 +1,11 @@
+package org.example.dto;
+
+import lombok.Data;
+
+@Data
+public class JournalStatusDTO {
+    private long firstOffset;
+    private long nextOffset;
+    private long flushedOffset;
+    private int segments;
+}
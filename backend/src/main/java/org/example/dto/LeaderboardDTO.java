@@ -0,0 +1,13 @@
+package org.example.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class LeaderboardDTO {
+    private Long tournamentId;
+    private int totalPlayers;
+    private int offset;
+    private List<LeaderboardEntryDTO> entries;
+}
@@ -0,0 +1,18 @@
+package org.example.dto;
+
+import lombok.Data;
+
+@Data
+public class LeaderboardEntryDTO {
+    private int rank;
+    private Long playerId;
+    private String playerName;
+    private int points;
+    private int gamesPlayed;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int goalDifference;
+}
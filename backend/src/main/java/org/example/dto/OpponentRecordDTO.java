@@ -0,0 +1,15 @@
+package org.example.dto;
+
+import lombok.Data;
+
+@Data
+public class OpponentRecordDTO {
+    private Long opponentId;
+    private String opponentName;
+    private int games;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+}
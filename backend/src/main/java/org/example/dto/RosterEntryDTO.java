@@ -0,0 +1,15 @@
+package org.example.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class RosterEntryDTO {
+    @NotNull(message = "Player ID is required")
+    private Long playerId;
+
+    /**
+     * Team the player uses in all generated games; optional.
+     */
+    private Long teamId;
+}
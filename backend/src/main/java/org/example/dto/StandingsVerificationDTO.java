@@ -0,0 +1,12 @@
+package org.example.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class StandingsVerificationDTO {
+    private Long tournamentId;
+    private boolean consistent;
+    private List<Long> driftedPlayerIds;
+}
@@ -0,0 +1,20 @@
+package org.example.event;
+
+import lombok.Value;
+import org.example.dto.GameDTO;
+
+/**
+ * Published by the game write paths; listeners that need committed state should use
+ * {@code @TransactionalEventListener} so they only see changes that were actually stored.
+ */
+@Value
+public class GameChangedEvent {
+    GameEventType type;
+    GameDTO game;
+    Integer previousScore1;
+    Integer previousScore2;
+
+    public Long getTournamentId() {
+        return game.getTournamentId();
+    }
+}
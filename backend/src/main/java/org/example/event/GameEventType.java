@@ -0,0 +1,17 @@
+package org.example.event;
+
+public enum GameEventType {
+    CREATED("game-created"),
+    SCORE_UPDATED("score-updated"),
+    DELETED("game-deleted");
+
+    private final String eventName;
+
+    GameEventType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.event;
+
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Published when the stored ratings of some players changed; the in-memory rating index reloads them after commit.
+ */
+@Value
+public class RatingsChangedEvent {
+    Set<Long> playerIds;
+}
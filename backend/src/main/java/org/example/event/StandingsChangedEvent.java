@@ -0,0 +1,19 @@
+package org.example.event;
+
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Published when materialized standings rows of a tournament were created or changed. {@code playerIds} is
+ * {@code null} when any row of the tournament may have changed, e.g. after a rebuild or deletion.
+ */
+@Value
+public class StandingsChangedEvent {
+    Long tournamentId;
+    Set<Long> playerIds;
+
+    public static StandingsChangedEvent allPlayers(Long tournamentId) {
+        return new StandingsChangedEvent(tournamentId, null);
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One fixed-size journal record, read in place from the mapped segment. During a replay the same instance is
+ * moved from record to record, so it must not be retained after the visitor returns.
+ * <p>
+ * Layout ({@value #SIZE} bytes, little-endian): type (1), padding (3), score 1 (4), game id (8), tournament id (8),
+ * player 1 id (8), player 2 id (8), score 2 (4), previous score 1 (4), previous score 2 (4), timestamp in epoch
+ * millis (8), CRC32C of the preceding 60 bytes (4). Missing ids are 0 and missing scores {@link #NO_SCORE}.
+ */
+public final class JournalRecord {
+    public static final int SIZE = 64;
+    public static final int NO_SCORE = Integer.MIN_VALUE;
+
+    static final int TYPE = 0;
+    static final int SCORE1 = 4;
+    static final int GAME_ID = 8;
+    static final int TOURNAMENT_ID = 16;
+    static final int PLAYER1_ID = 24;
+    static final int PLAYER2_ID = 32;
+    static final int SCORE2 = 40;
+    static final int PREVIOUS_SCORE1 = 44;
+    static final int PREVIOUS_SCORE2 = 48;
+    static final int TIMESTAMP = 52;
+    static final int CHECKSUM = 60;
+
+    private ByteBuffer buffer;
+    private int position;
+    private long offset;
+
+    void moveTo(ByteBuffer buffer, int position, long offset) {
+        this.buffer = buffer;
+        this.position = position;
+        this.offset = offset;
+    }
+
+    /**
+     * Position of the record in the journal: the number of records written before it.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    public JournalRecordType getType() {
+        return JournalRecordType.fromCode(buffer.get(position + TYPE));
+    }
+
+    public long getGameId() {
+        return buffer.getLong(position + GAME_ID);
+    }
+
+    public long getTournamentId() {
+        return buffer.getLong(position + TOURNAMENT_ID);
+    }
+
+    public long getPlayer1Id() {
+        return buffer.getLong(position + PLAYER1_ID);
+    }
+
+    public long getPlayer2Id() {
+        return buffer.getLong(position + PLAYER2_ID);
+    }
+
+    public int getScore1() {
+        return buffer.getInt(position + SCORE1);
+    }
+
+    public int getScore2() {
+        return buffer.getInt(position + SCORE2);
+    }
+
+    public int getPreviousScore1() {
+        return buffer.getInt(position + PREVIOUS_SCORE1);
+    }
+
+    public int getPreviousScore2() {
+        return buffer.getInt(position + PREVIOUS_SCORE2);
+    }
+
+    public long getTimestamp() {
+        return buffer.getLong(position + TIMESTAMP);
+    }
+
+    public boolean hasScores() {
+        return getScore1() != NO_SCORE && getScore2() != NO_SCORE;
+    }
+
+    public boolean hasPreviousScores() {
+        return getPreviousScore1() != NO_SCORE && getPreviousScore2() != NO_SCORE;
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.journal;
+
+/**
+ * Kind of a journaled game change. The code is what is stored; 0 marks a slot that was never written.
+ */
+public enum JournalRecordType {
+    CREATED(1),
+    /**
+     * First result of a game that had no scores.
+     */
+    SCORED(2),
+    /**
+     * Result of a game that already had one; the previous scores are journaled with it.
+     */
+    CORRECTED(3),
+    DELETED(4);
+
+    private final byte code;
+
+    JournalRecordType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static JournalRecordType fromCode(byte code) {
+        for (JournalRecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Unknown journal record type " + code);
+    }
+}
@@ -0,0 +1,350 @@
+package org.example.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of game changes in fixed-size {@link JournalRecord}s, stored in memory-mapped segment files
+ * named after the offset of their first record. Appending is a handful of stores into the mapped active segment;
+ * a new segment is started when it is full.
+ * <p>
+ * Durability uses group commit: a single flusher thread forces the active segment whenever records are pending,
+ * and {@link #awaitFlushed(long)} waits for the force covering a given offset, so concurrent writers share one
+ * {@code msync} instead of issuing one each.
+ * <p>
+ * On open, the last segment is scanned up to the first empty slot or bad checksum; that record and everything
+ * after it, i.e. the partially written tail of a crash, is zeroed before new records are appended.
+ */
+public class ScoreJournal implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ScoreJournal.class);
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private final CRC32C checksum = new CRC32C();
+    private final Thread flusher;
+
+    private FileChannel activeChannel;
+    private MappedByteBuffer active;
+    private long activeFirstOffset;
+    private long nextOffset;
+    private long flushedOffset;
+    private boolean closed;
+
+    public ScoreJournal(Path directory, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.recordsPerSegment = (int) Math.min(segmentSize / JournalRecord.SIZE,
+                Integer.MAX_VALUE / JournalRecord.SIZE);
+        if (recordsPerSegment < 1) {
+            throw new IllegalStateException("Journal segments must hold at least one record of "
+                    + JournalRecord.SIZE + " bytes");
+        }
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .forEach(file -> segments.put(firstOffsetOf(file), file));
+        }
+        if (segments.isEmpty()) {
+            openSegment(0);
+        } else {
+            Map.Entry<Long, Path> last = segments.lastEntry();
+            activeFirstOffset = last.getKey();
+            activeChannel = FileChannel.open(last.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            active = map(activeChannel);
+            nextOffset = activeFirstOffset + recover();
+        }
+        flushedOffset = nextOffset;
+        flusher = new Thread(this::flushLoop, "score-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Opened score journal in {} with {} segments, next offset {}",
+                directory, segments.size(), nextOffset);
+    }
+
+    /**
+     * Appends a record and returns its offset. The record is visible to replays at once and durable once
+     * {@link #awaitFlushed(long)} returns for its offset. Ids that are {@code null} are stored as 0, scores as
+     * {@link JournalRecord#NO_SCORE}.
+     */
+    public long append(JournalRecordType type, long gameId, long tournamentId, Long player1Id, Long player2Id,
+                       Integer score1, Integer score2, Integer previousScore1, Integer previousScore2) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Score journal is closed");
+            }
+            if (nextOffset - activeFirstOffset == recordsPerSegment) {
+                rotate();
+            }
+            int position = (int) (nextOffset - activeFirstOffset) * JournalRecord.SIZE;
+            active.put(position + JournalRecord.TYPE, type.getCode());
+            active.putInt(position + JournalRecord.SCORE1, score(score1));
+            active.putLong(position + JournalRecord.GAME_ID, gameId);
+            active.putLong(position + JournalRecord.TOURNAMENT_ID, tournamentId);
+            active.putLong(position + JournalRecord.PLAYER1_ID, player1Id != null ? player1Id : 0);
+            active.putLong(position + JournalRecord.PLAYER2_ID, player2Id != null ? player2Id : 0);
+            active.putInt(position + JournalRecord.SCORE2, score(score2));
+            active.putInt(position + JournalRecord.PREVIOUS_SCORE1, score(previousScore1));
+            active.putInt(position + JournalRecord.PREVIOUS_SCORE2, score(previousScore2));
+            active.putLong(position + JournalRecord.TIMESTAMP, System.currentTimeMillis());
+            active.putInt(position + JournalRecord.CHECKSUM, checksum(active, position));
+            appended.signal();
+            return nextOffset++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start a new journal segment in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the record at {@code offset} has been forced to disk, or the journal is closed.
+     */
+    public void awaitFlushed(long offset) {
+        lock.lock();
+        try {
+            while (flushedOffset <= offset && !closed) {
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Visits every record from {@code fromOffset} up to the end of the journal as of the call, in order, reading
+     * them in place from the mapped segments. Records appended during the replay are not visited. Returns the
+     * offset to resume from.
+     */
+    public long replay(long fromOffset, Consumer<JournalRecord> visitor) {
+        long end;
+        long activeFirst;
+        ByteBuffer activeView;
+        NavigableMap<Long, Path> snapshot;
+        lock.lock();
+        try {
+            end = nextOffset;
+            activeFirst = activeFirstOffset;
+            activeView = active.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            snapshot = new TreeMap<>(segments);
+        } finally {
+            lock.unlock();
+        }
+
+        JournalRecord record = new JournalRecord();
+        Long start = snapshot.floorKey(fromOffset);
+        for (Map.Entry<Long, Path> segment : snapshot.tailMap(start != null ? start : snapshot.firstKey(), true)
+                .entrySet()) {
+            long first = segment.getKey();
+            Long next = snapshot.higherKey(first);
+            long limit = next != null ? Math.min(next, end) : end;
+            if (first >= end) {
+                break;
+            }
+            ByteBuffer buffer = first == activeFirst
+                    ? activeView : mapReadOnly(segment.getValue(), (limit - first) * JournalRecord.SIZE);
+            for (long offset = Math.max(fromOffset, first); offset < limit; offset++) {
+                record.moveTo(buffer, (int) (offset - first) * JournalRecord.SIZE, offset);
+                visitor.accept(record);
+            }
+        }
+        return end;
+    }
+
+    public long getFirstOffset() {
+        lock.lock();
+        try {
+            return segments.firstKey();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getNextOffset() {
+        lock.lock();
+        try {
+            return nextOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getFlushedOffset() {
+        lock.lock();
+        try {
+            return flushedOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            active.force();
+            flushedOffset = nextOffset;
+            activeChannel.close();
+            appended.signalAll();
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Forces the active segment whenever records are pending. Appends continue while a force is in progress and
+     * are covered by the next one.
+     */
+    private void flushLoop() {
+        while (true) {
+            MappedByteBuffer buffer;
+            long target;
+            lock.lock();
+            try {
+                while (!closed && flushedOffset == nextOffset) {
+                    appended.await();
+                }
+                if (closed) {
+                    return;
+                }
+                buffer = active;
+                target = nextOffset;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            buffer.force();
+            lock.lock();
+            try {
+                flushedOffset = Math.max(flushedOffset, target);
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of intact records of the active segment and zeroes everything after them.
+     */
+    private int recover() {
+        int count = 0;
+        while (count < recordsPerSegment) {
+            int position = count * JournalRecord.SIZE;
+            if (active.get(position + JournalRecord.TYPE) == 0
+                    || active.getInt(position + JournalRecord.CHECKSUM) != checksum(active, position)) {
+                break;
+            }
+            count++;
+        }
+        long cleared = 0;
+        for (int position = count * JournalRecord.SIZE; position < active.capacity(); position += Long.BYTES) {
+            if (active.getLong(position) != 0) {
+                active.putLong(position, 0);
+                cleared += Long.BYTES;
+            }
+        }
+        if (cleared > 0) {
+            active.force();
+            log.warn("Truncated a partially written tail of {} bytes at offset {} of the score journal",
+                    cleared, activeFirstOffset + count);
+        }
+        return count;
+    }
+
+    private void rotate() throws IOException {
+        active.force();
+        activeChannel.close();
+        flushedOffset = nextOffset;
+        flushed.signalAll();
+        openSegment(nextOffset);
+    }
+
+    private void openSegment(long firstOffset) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", firstOffset, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = map(activeChannel);
+        activeFirstOffset = firstOffset;
+        segments.put(firstOffset, file);
+    }
+
+    private MappedByteBuffer map(FileChannel channel) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                (long) recordsPerSegment * JournalRecord.SIZE);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static ByteBuffer mapReadOnly(Path file, long size) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read journal segment " + file, e);
+        }
+    }
+
+    private int checksum(ByteBuffer buffer, int position) {
+        checksum.reset();
+        checksum.update(buffer.slice(position, JournalRecord.CHECKSUM));
+        return (int) checksum.getValue();
+    }
+
+    private static int score(Integer score) {
+        return score != null ? score : JournalRecord.NO_SCORE;
+    }
+
+    private static long firstOffsetOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Unexpected file in the journal directory: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.journal;
+
+import org.example.dto.GameDTO;
+import org.example.event.GameChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Journals every committed game change. Records are appended after commit, so the journal never holds a change
+ * that was rolled back; a crash between the commit and the append loses that record, which a standings rebuild
+ * from the games table repairs. With {@code app.journal.await-flush} the writing request waits for the group
+ * commit that makes its record durable. Games generated as fixtures are journaled once they are scored.
+ */
+@Component
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+public class ScoreJournalRecorder {
+    private static final Logger log = LoggerFactory.getLogger(ScoreJournalRecorder.class);
+
+    private final ScoreJournal journal;
+    private final boolean awaitFlush;
+
+    @Autowired
+    public ScoreJournalRecorder(ScoreJournal journal,
+                                @Value("${app.journal.await-flush:true}") boolean awaitFlush) {
+        this.journal = journal;
+        this.awaitFlush = awaitFlush;
+    }
+
+    @TransactionalEventListener
+    public void onGameChanged(GameChangedEvent event) {
+        GameDTO game = event.getGame();
+        JournalRecordType type = switch (event.getType()) {
+            case CREATED -> JournalRecordType.CREATED;
+            case SCORE_UPDATED -> event.getPreviousScore1() != null && event.getPreviousScore2() != null
+                    ? JournalRecordType.CORRECTED : JournalRecordType.SCORED;
+            case DELETED -> JournalRecordType.DELETED;
+        };
+        boolean deleted = type == JournalRecordType.DELETED;
+        try {
+            long offset = journal.append(type, game.getId(), game.getTournamentId(),
+                    game.getPlayer1Id(), game.getPlayer2Id(),
+                    deleted ? null : game.getScore1(), deleted ? null : game.getScore2(),
+                    event.getPreviousScore1(), event.getPreviousScore2());
+            if (awaitFlush) {
+                journal.awaitFlushed(offset);
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not journal {} of game {}", type, game.getId(), e);
+        }
+    }
+}
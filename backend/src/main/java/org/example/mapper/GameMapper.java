@@ -21,6 +21,7 @@ public interface GameMapper {
     @Mapping(target = "tournament", source = "tournamentId", qualifiedByName = "mapTournamentIdToTournament")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "ratingDelta", ignore = true)
     Game toEntity(GameDTO gameDTO);
 
     @Mapping(target = "player1Id", source = "player1.id")
@@ -40,6 +41,9 @@ public interface GameMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "score1", ignore = true)
     @Mapping(target = "score2", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "round", ignore = true)
+    @Mapping(target = "ratingDelta", ignore = true)
     Game toEntity(CreateGameRequest createGameRequest);
     
     @Named("mapPlayerIdToPlayer")
@@ -13,6 +13,7 @@ public interface PlayerMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "tournamentStats", ignore = true)
+    @Mapping(target = "rating", ignore = true)
     Player toEntity(PlayerDTO playerDTO);
 
     PlayerDTO toDTO(Player player);
@@ -21,11 +22,13 @@ public interface PlayerMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "tournamentStats", ignore = true)
+    @Mapping(target = "rating", ignore = true)
     Player toEntity(CreatePlayerRequest createPlayerRequest);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "tournamentStats", ignore = true)
+    @Mapping(target = "rating", ignore = true)
     void updateFromDto(CreatePlayerRequest dto, @MappingTarget Player entity);
 }
\ No newline at end of file
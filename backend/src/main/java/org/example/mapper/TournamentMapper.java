@@ -14,6 +14,8 @@ public interface TournamentMapper {
     @Mapping(target = "playerStats", ignore = true) // Player stats are managed separately
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "revision", ignore = true)
+    @Mapping(target = "fixtureFormat", ignore = true)
     Tournament toEntity(TournamentDTO tournamentDTO);
 
     TournamentDTO toDTO(Tournament tournament);
@@ -23,5 +25,7 @@ public interface TournamentMapper {
     @Mapping(target = "playerStats", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "revision", ignore = true)
+    @Mapping(target = "fixtureFormat", ignore = true)
     Tournament toEntity(CreateTournamentRequest createTournamentRequest);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package org.example.model;
+
+/**
+ * Schedule formats the fixture generator can produce.
+ */
+public enum FixtureFormat {
+    ROUND_ROBIN,
+    DOUBLE_ROUND_ROBIN,
+    KNOCKOUT
+}
@@ -10,11 +10,22 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "games")
+@Table(name = "games",
+       indexes = {
+               @Index(name = "idx_games_tournament_id", columnList = "tournament_id, id"),
+               @Index(name = "idx_games_tournament_results",
+                      columnList = "tournament_id, player1_id, player2_id, score1, score2"),
+               @Index(name = "idx_games_tournament_round", columnList = "tournament_id, round"),
+               @Index(name = "idx_games_player1", columnList = "player1_id, tournament_id, score1, score2"),
+               @Index(name = "idx_games_player2", columnList = "player2_id, tournament_id, score1, score2"),
+               @Index(name = "idx_games_team1", columnList = "team1_id"),
+               @Index(name = "idx_games_team2", columnList = "team2_id")
+       })
 public class Game implements java.io.Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,6 +51,26 @@ public class Game implements java.io.Serializable {
     private Integer score1;
     private Integer score2;
 
+    /**
+     * Matchday or knockout round for generated fixtures, {@code null} for games created by hand.
+     */
+    private Integer round;
+
+    /**
+     * Rating change of player 1 from this result (player 2 changed by the opposite), kept so that a
+     * corrected or deleted result can be reverted. {@code null} while the game has no result.
+     */
+    @Column(name = "rating_delta")
+    private Double ratingDelta;
+
+    /**
+     * Optimistic lock: every update checks and increments it, so concurrent writers of the same game
+     * cannot silently overwrite each other.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -20,6 +20,8 @@ import java.util.List;
 @Entity
 @Table(name = "players")
 public class Player implements java.io.Serializable {
+    public static final double INITIAL_RATING = 1500;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,6 +30,12 @@ public class Player implements java.io.Serializable {
     @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
     @Column(nullable = false, length = 100)
     private String name;
+
+    /**
+     * Elo rating across all tournaments. Maintained by bulk updates only, so merging a player never overwrites it.
+     */
+    @Column(nullable = false, updatable = false)
+    private double rating = INITIAL_RATING;
     
     @Column(name = "created_at", nullable = false, updatable = false)
     @CreationTimestamp
@@ -4,9 +4,14 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+/**
+ * Materialized standings row of a player within a tournament.
+ * Counters are maintained incrementally whenever a game of the tournament changes.
+ */
 @Data
 @Entity
-@Table(name = "player_tournament")
+@Table(name = "player_tournament",
+       indexes = @Index(name = "idx_player_tournament_tournament", columnList = "tournament_id, player_id"))
 @IdClass(PlayerTournamentId.class)
 public class PlayerTournament {
     @Id
@@ -21,6 +26,24 @@ public class PlayerTournament {
     @EqualsAndHashCode.Exclude
     private Tournament tournament;
 
+    @Column(name = "games_played", nullable = false)
+    private int gamesPlayed;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int draws;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Column(name = "goals_for", nullable = false)
+    private int goalsFor;
+
+    @Column(name = "goals_against", nullable = false)
+    private int goalsAgainst;
+
     public PlayerTournamentId getId() {
         if (player == null || tournament == null) {
             return null;
@@ -25,6 +25,20 @@ public class Tournament {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Bumped by every write that changes what the tournament endpoints return; backs their ETags.
+     * Only changed through bulk updates, never by merging an entity.
+     */
+    @Column(nullable = false, updatable = false)
+    private long revision;
+
+    /**
+     * Format of the generated fixtures, {@code null} while none were generated. Set through a bulk update only.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fixture_format", updatable = false)
+    private FixtureFormat fixtureFormat;
+
     @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Game> games = new ArrayList<>();
 
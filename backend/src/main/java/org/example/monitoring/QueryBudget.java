@@ -0,0 +1,14 @@
+package org.example.monitoring;
+
+import java.lang.annotation.*;
+
+/**
+ * Upper bound of SQL statements a request handler may issue on a cold cache. Checked by {@code QueryBudgetTest},
+ * which calls every annotated handler against a multi-player fixture, so N+1 regressions fail the build.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+    int value();
+}
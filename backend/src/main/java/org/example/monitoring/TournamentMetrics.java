@@ -0,0 +1,47 @@
+package org.example.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes the {@code tournament.games} gauge: the number of games of each of the largest tournaments, tagged
+ * by tournament id. Counted with one grouped query on a fixed delay rather than on every scrape, and limited to
+ * the {@code app.metrics.tournament-gauge-limit} largest tournaments to bound the number of time series.
+ */
+@Component
+public class TournamentMetrics {
+    private static final String GAMES_PER_TOURNAMENT_SQL =
+            "select tournament_id, count(*) from games where tournament_id is not null " +
+            "group by tournament_id order by count(*) desc limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MultiGauge gamesPerTournament;
+    private final int limit;
+
+    @Autowired
+    public TournamentMetrics(JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.metrics.tournament-gauge-limit:50}") int limit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.limit = limit;
+        this.gamesPerTournament = MultiGauge.builder("tournament.games")
+                .description("Games per tournament, for the largest tournaments")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.metrics.tournament-gauge-interval-ms:60000}")
+    public void refresh() {
+        List<MultiGauge.Row<?>> rows = jdbcTemplate.query(GAMES_PER_TOURNAMENT_SQL,
+                (rs, rowNum) -> MultiGauge.Row.of(Tags.of("tournament", String.valueOf(rs.getLong(1))), rs.getLong(2)),
+                limit);
+        gamesPerTournament.register(rows, true);
+    }
+}
@@ -1,13 +1,98 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.dto.GameDTO;
 import org.example.model.Game;
 import org.example.model.Tournament;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
     List<Game> findByTournament(Tournament tournament);
-}
\ No newline at end of file
+
+    @Query("select new org.example.dto.GameDTO(g.id, g.player1.id, g.player2.id, g.team1.id, g.team2.id, " +
+           "g.score1, g.score2, g.createdAt, g.updatedAt, g.tournament.id, g.version, g.round) " +
+           "from Game g where g.tournament.id = :tournamentId order by g.id")
+    List<GameDTO> findDTOsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Same rows as {@link #findDTOsByTournamentId} read through a cursor in chunks of the fetch size.
+     * The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new org.example.dto.GameDTO(g.id, g.player1.id, g.player2.id, g.team1.id, g.team2.id, " +
+           "g.score1, g.score2, g.createdAt, g.updatedAt, g.tournament.id, g.version, g.round) " +
+           "from Game g where g.tournament.id = :tournamentId order by g.id")
+    Stream<GameDTO> streamDTOsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    long countByTournamentId(Long tournamentId);
+
+    @Query("select g.tournament.id from Game g where g.id = :id")
+    Optional<Long> findTournamentIdById(@Param("id") Long id);
+
+    @Query("select max(g.round) from Game g where g.tournament.id = :tournamentId")
+    Integer findLastRound(@Param("tournamentId") Long tournamentId);
+
+    List<Game> findByTournamentIdAndRoundOrderByIdAsc(Long tournamentId, Integer round);
+
+    @Query("select count(g) as totalGames, " +
+           "coalesce(sum(case when g.score1 is not null and g.score2 is not null then 1 else 0 end), 0) " +
+           "as completedGames from Game g where g.tournament.id = :tournamentId")
+    GameCounts countGames(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Results of every player of a tournament, aggregated by the database: both sides of each game are unioned,
+     * with the scores swapped for player 2, and summed per player with conditional sums. Players of unscored games
+     * get a row of zeros. The result has one row per player, however many games the tournament has, and the
+     * {@code (tournament_id, player1_id, player2_id, score1, score2)} index covers both branches.
+     */
+    @Query(value = "select player_id as \"playerId\", " +
+                   "sum(case when goals_for is not null and goals_against is not null then 1 else 0 end) " +
+                   "as \"gamesPlayed\", " +
+                   "sum(case when goals_for > goals_against then 1 else 0 end) as \"wins\", " +
+                   "sum(case when goals_for = goals_against then 1 else 0 end) as \"draws\", " +
+                   "sum(case when goals_for < goals_against then 1 else 0 end) as \"losses\", " +
+                   "sum(case when goals_against is not null then coalesce(goals_for, 0) else 0 end) " +
+                   "as \"goalsFor\", " +
+                   "sum(case when goals_for is not null then coalesce(goals_against, 0) else 0 end) " +
+                   "as \"goalsAgainst\" " +
+                   "from (select player1_id as player_id, score1 as goals_for, score2 as goals_against " +
+                   "      from games where tournament_id = :tournamentId and player1_id is not null " +
+                   "      union all " +
+                   "      select player2_id, score2, score1 " +
+                   "      from games where tournament_id = :tournamentId and player2_id is not null) sides " +
+                   "group by player_id",
+           nativeQuery = true)
+    List<PlayerResults> aggregatePlayerResults(@Param("tournamentId") Long tournamentId);
+
+    interface GameCounts {
+        long getTotalGames();
+
+        long getCompletedGames();
+    }
+
+    interface PlayerResults {
+        Long getPlayerId();
+
+        int getGamesPlayed();
+
+        int getWins();
+
+        int getDraws();
+
+        int getLosses();
+
+        int getGoalsFor();
+
+        int getGoalsAgainst();
+    }
+}
@@ -1,9 +1,31 @@
 package org.example.repository;
 
+import org.example.dto.PlayerRatingDTO;
 import org.example.model.Player;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
+    List<Player> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select p.id from Player p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new org.example.dto.PlayerRatingDTO(p.id, p.name, p.rating) from Player p where p.id in :ids")
+    List<PlayerRatingDTO> findRatings(@Param("ids") Collection<Long> ids);
+
+    @Query("select new org.example.dto.PlayerRatingDTO(p.id, p.name, p.rating) from Player p")
+    List<PlayerRatingDTO> findAllRatings();
+
+    @Modifying
+    @Query("update Player p set p.rating = p.rating + :delta where p.id = :id")
+    int addToRating(@Param("id") Long id, @Param("delta") double delta);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package org.example.repository;
+
+import org.example.model.PlayerTournament;
+import org.example.model.PlayerTournamentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlayerTournamentRepository extends JpaRepository<PlayerTournament, PlayerTournamentId> {
+
+    @Query("select pt from PlayerTournament pt join fetch pt.player where pt.tournament.id = :tournamentId")
+    List<PlayerTournament> findStandingsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query("select pt from PlayerTournament pt join fetch pt.player " +
+           "where pt.tournament.id = :tournamentId and pt.player.id in :playerIds")
+    List<PlayerTournament> findStandingsByTournamentIdAndPlayerIds(@Param("tournamentId") Long tournamentId,
+                                                                   @Param("playerIds") Collection<Long> playerIds);
+
+    @Query("select pt.player.id from PlayerTournament pt " +
+           "where pt.tournament.id = :tournamentId and pt.player.id in :playerIds")
+    List<Long> findParticipantIds(@Param("tournamentId") Long tournamentId,
+                                  @Param("playerIds") Collection<Long> playerIds);
+
+    @Modifying
+    @Query("update PlayerTournament pt set " +
+           "pt.gamesPlayed = pt.gamesPlayed + :gamesPlayed, " +
+           "pt.wins = pt.wins + :wins, " +
+           "pt.draws = pt.draws + :draws, " +
+           "pt.losses = pt.losses + :losses, " +
+           "pt.goalsFor = pt.goalsFor + :goalsFor, " +
+           "pt.goalsAgainst = pt.goalsAgainst + :goalsAgainst " +
+           "where pt.tournament.id = :tournamentId and pt.player.id = :playerId")
+    int applyDelta(@Param("tournamentId") Long tournamentId,
+                   @Param("playerId") Long playerId,
+                   @Param("gamesPlayed") int gamesPlayed,
+                   @Param("wins") int wins,
+                   @Param("draws") int draws,
+                   @Param("losses") int losses,
+                   @Param("goalsFor") int goalsFor,
+                   @Param("goalsAgainst") int goalsAgainst);
+}
@@ -1,10 +1,21 @@
 package org.example.repository;
 
 import org.example.model.Team;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
     boolean existsByName(String name);
+
+    List<Team> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select t.id from Team t where t.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -1,9 +1,38 @@
 package org.example.repository;
 
+import org.example.model.FixtureFormat;
 import org.example.model.Tournament;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+    List<Tournament> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select t.revision from Tournament t where t.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    @Query("select t.fixtureFormat from Tournament t where t.id = :id")
+    Optional<FixtureFormat> findFixtureFormatById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Tournament t set t.fixtureFormat = :format where t.id = :id")
+    int updateFixtureFormat(@Param("id") Long id, @Param("format") FixtureFormat format);
+
+    @Modifying
+    @Query("update Tournament t set t.revision = t.revision + 1 where t.id in :ids")
+    int incrementRevisions(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Tournament t set t.revision = t.revision + 1 where t.id in " +
+           "(select pt.tournament.id from PlayerTournament pt where pt.player.id = :playerId)")
+    int incrementRevisionsByPlayerId(@Param("playerId") Long playerId);
 }
\ No newline at end of file
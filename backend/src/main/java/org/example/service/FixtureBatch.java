@@ -0,0 +1,80 @@
+package org.example.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Fixed-size buffer of generated pairings, kept as primitive columns of roster indexes. Handed to
+ * {@code flusher} every time it fills up, so a schedule is written in chunks while it is generated.
+ */
+class FixtureBatch implements FixtureScheduler.PairingConsumer {
+    private final long[] playerIds;
+    private final long[] teamIds;
+    private final int[] rounds;
+    private final int[] homes;
+    private final int[] aways;
+    private final Consumer<FixtureBatch> flusher;
+    private int size;
+    private long written;
+
+    /**
+     * @param playerIds roster player ids, addressed by the scheduler's indexes
+     * @param teamIds   team of each roster entry, {@code 0} for none
+     */
+    FixtureBatch(long[] playerIds, long[] teamIds, int capacity, Consumer<FixtureBatch> flusher) {
+        this.playerIds = playerIds;
+        this.teamIds = teamIds;
+        this.rounds = new int[capacity];
+        this.homes = new int[capacity];
+        this.aways = new int[capacity];
+        this.flusher = flusher;
+    }
+
+    @Override
+    public void accept(int round, int home, int away) {
+        rounds[size] = round;
+        homes[size] = home;
+        aways[size] = away;
+        if (++size == rounds.length) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (size > 0) {
+            flusher.accept(this);
+            written += size;
+            size = 0;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long written() {
+        return written;
+    }
+
+    int round(int i) {
+        return rounds[i];
+    }
+
+    long homePlayerId(int i) {
+        return playerIds[homes[i]];
+    }
+
+    long homeTeamId(int i) {
+        return teamIds[homes[i]];
+    }
+
+    /**
+     * Away player id, {@code 0} for a bye.
+     */
+    long awayPlayerId(int i) {
+        return aways[i] == FixtureScheduler.BYE ? 0 : playerIds[aways[i]];
+    }
+
+    long awayTeamId(int i) {
+        return aways[i] == FixtureScheduler.BYE ? 0 : teamIds[aways[i]];
+    }
+}
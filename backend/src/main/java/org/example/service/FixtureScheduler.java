@@ -0,0 +1,89 @@
+package org.example.service;
+
+/**
+ * Pure schedule arithmetic for generated fixtures. Players are addressed by their index in the roster and
+ * pairings are pushed to a {@link PairingConsumer} as they are computed, so a schedule of any size is produced
+ * without being held in memory and without allocating per pairing.
+ */
+public final class FixtureScheduler {
+    /**
+     * Away index of a knockout pairing in which the home player advances without playing.
+     */
+    public static final int BYE = -1;
+
+    @FunctionalInterface
+    public interface PairingConsumer {
+        void accept(int round, int home, int away);
+    }
+
+    private FixtureScheduler() {
+    }
+
+    public static long roundRobinGameCount(int players, boolean twice) {
+        long games = (long) players * (players - 1) / 2;
+        return twice ? games * 2 : games;
+    }
+
+    /**
+     * Round-robin by the circle method: roster index 0 stays fixed while the others rotate one position per
+     * round, so every player meets every other exactly once over {@code n - 1} rounds ({@code n} rounded up to
+     * even, the extra slot being a rest day). With {@code twice} a second half repeats the rounds with home and
+     * away swapped. Rounds are numbered from 1.
+     */
+    public static void roundRobin(int players, boolean twice, PairingConsumer consumer) {
+        int slots = players % 2 == 0 ? players : players + 1;
+        int rounds = slots - 1;
+        for (int leg = 0; leg < (twice ? 2 : 1); leg++) {
+            for (int round = 0; round < rounds; round++) {
+                for (int i = 0; i < slots / 2; i++) {
+                    int first = rotatedSlot(i, round, rounds);
+                    int second = rotatedSlot(slots - 1 - i, round, rounds);
+                    if (first >= players || second >= players) {
+                        continue;
+                    }
+                    // Alternate the fixed player's home games; mirror everything in the second leg
+                    boolean swap = (i == 0 && round % 2 == 1) != (leg == 1);
+                    consumer.accept(leg * rounds + round + 1, swap ? second : first, swap ? first : second);
+                }
+            }
+        }
+    }
+
+    private static int rotatedSlot(int position, int round, int rounds) {
+        return position == 0 ? 0 : (position - 1 + round) % rounds + 1;
+    }
+
+    /**
+     * Number of knockout rounds needed for the given number of players.
+     */
+    public static int knockoutRounds(int players) {
+        return 32 - Integer.numberOfLeadingZeros(Math.max(players, 2) - 1);
+    }
+
+    /**
+     * First knockout round. The bracket is padded to the next power of two and seed {@code i} (the roster order)
+     * meets seed {@code size - 1 - i}; the top seeds facing a missing opponent receive a {@link #BYE}.
+     * Pairings are emitted in bracket order, which {@link #nextKnockoutRound} relies on.
+     */
+    public static void knockoutFirstRound(int players, PairingConsumer consumer) {
+        int size = 1 << knockoutRounds(players);
+        for (int i = 0; i < size / 2; i++) {
+            int opponent = size - 1 - i;
+            consumer.accept(1, i, opponent < players ? opponent : BYE);
+        }
+    }
+
+    /**
+     * Pairs the survivors of a knockout round, given in bracket order, the same way: the first meets the last,
+     * the second meets the one before last, and so on.
+     */
+    public static void nextKnockoutRound(int round, int survivors, PairingConsumer consumer) {
+        if (Integer.bitCount(survivors) != 1 || survivors < 2) {
+            throw new IllegalStateException("A knockout round needs a power of two of at least 2 players, got "
+                    + survivors);
+        }
+        for (int i = 0; i < survivors / 2; i++) {
+            consumer.accept(round, i, survivors - 1 - i);
+        }
+    }
+}
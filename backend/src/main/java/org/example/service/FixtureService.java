@@ -0,0 +1,279 @@
+package org.example.service;
+
+import org.example.dto.FixtureGenerationDTO;
+import org.example.dto.FixtureGenerationDTO.Status;
+import org.example.dto.GenerateFixturesRequest;
+import org.example.dto.RosterEntryDTO;
+import org.example.exception.ResourceNotFoundException;
+import org.example.model.FixtureFormat;
+import org.example.model.Game;
+import org.example.model.Team;
+import org.example.repository.GameRepository;
+import org.example.repository.PlayerRepository;
+import org.example.repository.TeamRepository;
+import org.example.repository.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Generates complete schedules for a tournament in the background. Pairings are streamed from
+ * {@link FixtureScheduler} into a {@link FixtureBatch} and written by {@link FixtureWriter} one chunk per
+ * transaction, so even a 10,000 player round-robin (about 50M games) never has more than one chunk in memory.
+ * <p>
+ * The request is validated up front and answered right away; the games are written by a job on the
+ * application task executor whose progress is reported by {@link #getStatus}. At most one job runs per
+ * tournament, and starting one re-checks under the same lock that the schedule it extends is still current,
+ * so concurrent requests cannot both write a schedule.
+ * <p>
+ * Generation is deliberately not one transaction: a failed job leaves the chunks written so far in place,
+ * and the tournament's games must be deleted before generating again.
+ */
+@Service
+public class FixtureService {
+    private static final Logger log = LoggerFactory.getLogger(FixtureService.class);
+    private static final int MAX_JOBS = 100;
+
+    private final TournamentRepository tournamentRepository;
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final StandingsService standingsService;
+    private final FixtureWriter fixtureWriter;
+    private final Executor executor;
+    private final int chunkSize;
+    private final Map<Long, GenerationJob> jobs;
+
+    @Autowired
+    public FixtureService(TournamentRepository tournamentRepository,
+                          GameRepository gameRepository,
+                          PlayerRepository playerRepository,
+                          TeamRepository teamRepository,
+                          StandingsService standingsService,
+                          FixtureWriter fixtureWriter,
+                          @Qualifier("applicationTaskExecutor") Executor executor,
+                          @Value("${app.fixtures.chunk-size:5000}") int chunkSize) {
+        this.tournamentRepository = tournamentRepository;
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.standingsService = standingsService;
+        this.fixtureWriter = fixtureWriter;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        // Keeps the status of the most recent jobs; running jobs are never evicted
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GenerationJob> eldest) {
+                return size() > MAX_JOBS && eldest.getValue().status != Status.RUNNING;
+            }
+        });
+    }
+
+    /**
+     * Starts generating the full schedule of a round-robin, or the first round of a knockout, for a tournament
+     * without games and returns the job's status. Knockout byes are stored as games without a second player.
+     *
+     * @throws ResourceNotFoundException if the tournament or a player or team of the roster does not exist
+     * @throws IllegalStateException     if the tournament has games or fixtures are being generated for it
+     */
+    public FixtureGenerationDTO startGeneration(Long tournamentId, GenerateFixturesRequest request) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new ResourceNotFoundException("Tournament not found with id: " + tournamentId);
+        }
+        List<RosterEntryDTO> roster = request.getRoster();
+        long[] playerIds = new long[roster.size()];
+        long[] teamIds = new long[roster.size()];
+        Set<Long> teams = new HashSet<>();
+        Set<Long> players = new LinkedHashSet<>();
+        for (int i = 0; i < roster.size(); i++) {
+            RosterEntryDTO entry = roster.get(i);
+            if (!players.add(entry.getPlayerId())) {
+                throw new IllegalStateException("Player " + entry.getPlayerId() + " appears twice in the roster");
+            }
+            playerIds[i] = entry.getPlayerId();
+            if (entry.getTeamId() != null) {
+                teamIds[i] = entry.getTeamId();
+                teams.add(entry.getTeamId());
+            }
+        }
+        checkExisting("Players", players, playerRepository.findExistingIds(players));
+        if (!teams.isEmpty()) {
+            checkExisting("Teams", teams, teamRepository.findExistingIds(teams));
+        }
+
+        FixtureFormat format = request.getFormat();
+        int lastRound;
+        if (format == FixtureFormat.KNOCKOUT) {
+            lastRound = 1;
+        } else {
+            int rounds = playerIds.length % 2 == 0 ? playerIds.length - 1 : playerIds.length;
+            lastRound = format == FixtureFormat.DOUBLE_ROUND_ROBIN ? rounds * 2 : rounds;
+        }
+        synchronized (jobs) {
+            checkNotRunning(tournamentId);
+            if (gameRepository.countByTournamentId(tournamentId) > 0) {
+                throw new IllegalStateException("Tournament " + tournamentId + " already has games");
+            }
+            return start(new GenerationJob(tournamentId, format, 1, lastRound), job -> {
+                fixtureWriter.setFormat(tournamentId, format);
+                standingsService.registerParticipants(tournamentId, players);
+                FixtureBatch batch = job.batch(playerIds, teamIds);
+                if (format == FixtureFormat.KNOCKOUT) {
+                    FixtureScheduler.knockoutFirstRound(playerIds.length, batch);
+                } else {
+                    FixtureScheduler.roundRobin(playerIds.length, format == FixtureFormat.DOUBLE_ROUND_ROBIN, batch);
+                }
+                batch.flush();
+            });
+        }
+    }
+
+    /**
+     * Starts generating the next round of a knockout from the winners of the last round, which must be complete
+     * and without draws, and returns the job's status. Survivors keep their bracket order and team.
+     *
+     * @throws IllegalStateException if the last round is not decided or fixtures are being generated already
+     */
+    public FixtureGenerationDTO startNextKnockoutRound(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new ResourceNotFoundException("Tournament not found with id: " + tournamentId);
+        }
+        if (tournamentRepository.findFixtureFormatById(tournamentId).orElse(null) != FixtureFormat.KNOCKOUT) {
+            throw new IllegalStateException("Tournament " + tournamentId + " has no knockout fixtures");
+        }
+        Integer lastRound = gameRepository.findLastRound(tournamentId);
+        if (lastRound == null) {
+            throw new IllegalStateException("Tournament " + tournamentId + " has no knockout rounds");
+        }
+        List<Game> games = gameRepository.findByTournamentIdAndRoundOrderByIdAsc(tournamentId, lastRound);
+        if (games.size() < 2) {
+            throw new IllegalStateException("Round " + lastRound + " of tournament " + tournamentId + " is the final");
+        }
+        long[] playerIds = new long[games.size()];
+        long[] teamIds = new long[games.size()];
+        for (int i = 0; i < games.size(); i++) {
+            Game game = games.get(i);
+            boolean homeWins = game.getPlayer2() == null || homeWins(game);
+            playerIds[i] = (homeWins ? game.getPlayer1() : game.getPlayer2()).getId();
+            Team team = homeWins ? game.getTeam1() : game.getTeam2();
+            teamIds[i] = team != null ? team.getId() : 0;
+        }
+
+        int round = lastRound + 1;
+        synchronized (jobs) {
+            checkNotRunning(tournamentId);
+            // Another request may have generated this round since the survivors were read
+            if (!lastRound.equals(gameRepository.findLastRound(tournamentId))) {
+                throw new IllegalStateException("Round " + round + " of tournament " + tournamentId
+                        + " has already been generated");
+            }
+            return start(new GenerationJob(tournamentId, FixtureFormat.KNOCKOUT, round, round), job -> {
+                FixtureBatch batch = job.batch(playerIds, teamIds);
+                FixtureScheduler.nextKnockoutRound(round, playerIds.length, batch);
+                batch.flush();
+            });
+        }
+    }
+
+    /**
+     * Status of the latest fixture generation of a tournament, empty if none is known.
+     */
+    public Optional<FixtureGenerationDTO> getStatus(Long tournamentId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(tournamentId)).map(GenerationJob::toDTO);
+        }
+    }
+
+    private void checkNotRunning(Long tournamentId) {
+        GenerationJob running = jobs.get(tournamentId);
+        if (running != null && running.status == Status.RUNNING) {
+            throw new IllegalStateException("Fixtures of tournament " + tournamentId + " are being generated");
+        }
+    }
+
+    /**
+     * Registers a job and runs {@code work} on the executor. Must be called holding the lock on {@code jobs}.
+     */
+    private FixtureGenerationDTO start(GenerationJob job, Consumer<GenerationJob> work) {
+        jobs.remove(job.tournamentId);
+        jobs.put(job.tournamentId, job);
+        executor.execute(() -> {
+            try {
+                work.accept(job);
+                job.finish(Status.COMPLETED, null);
+                log.info("Generated rounds {}-{} of tournament {} with {} games", job.firstRound, job.lastRound,
+                        job.tournamentId, job.gamesCreated);
+            } catch (RuntimeException e) {
+                job.finish(Status.FAILED, e.getMessage());
+                log.error("Generating fixtures of tournament {} failed after {} games", job.tournamentId,
+                        job.gamesCreated, e);
+            }
+        });
+        return job.toDTO();
+    }
+
+    private static boolean homeWins(Game game) {
+        if (game.getScore1() == null || game.getScore2() == null || game.isDraw()) {
+            throw new IllegalStateException("Game " + game.getId() + " of round " + game.getRound()
+                    + " has no winner yet");
+        }
+        return game.getScore1() > game.getScore2();
+    }
+
+    private static void checkExisting(String label, Set<Long> requested, Collection<Long> existing) {
+        if (existing.size() != requested.size()) {
+            Set<Long> missing = new TreeSet<>(requested);
+            missing.removeAll(existing);
+            throw new ResourceNotFoundException(label + " not found with ids: " + missing);
+        }
+    }
+
+    private final class GenerationJob {
+        private final Long tournamentId;
+        private final FixtureFormat format;
+        private final int firstRound;
+        private final int lastRound;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile Status status = Status.RUNNING;
+        private volatile long gamesCreated;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private GenerationJob(Long tournamentId, FixtureFormat format, int firstRound, int lastRound) {
+            this.tournamentId = tournamentId;
+            this.format = format;
+            this.firstRound = firstRound;
+            this.lastRound = lastRound;
+        }
+
+        /**
+         * A batch that writes every full chunk and counts it towards the job's progress.
+         */
+        private FixtureBatch batch(long[] playerIds, long[] teamIds) {
+            return new FixtureBatch(playerIds, teamIds, chunkSize, chunk -> {
+                fixtureWriter.write(tournamentId, chunk);
+                gamesCreated += chunk.size();
+            });
+        }
+
+        private void finish(Status status, String error) {
+            this.finishedAt = LocalDateTime.now();
+            this.error = error;
+            this.status = status;
+        }
+
+        private FixtureGenerationDTO toDTO() {
+            return new FixtureGenerationDTO(tournamentId, format, firstRound, lastRound, status, gamesCreated,
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.service;
+
+import jakarta.transaction.Transactional;
+import org.example.config.CacheConfig;
+import org.example.model.FixtureFormat;
+import org.example.model.Game;
+import org.example.model.Tournament;
+import org.example.repository.GameRepository;
+import org.example.repository.PlayerRepository;
+import org.example.repository.TeamRepository;
+import org.example.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persists generated fixtures. Each chunk is written in its own transaction, so the persistence context
+ * never holds more than one chunk of games.
+ */
+@Component
+public class FixtureWriter {
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final TournamentRepository tournamentRepository;
+
+    @Autowired
+    public FixtureWriter(GameRepository gameRepository,
+                         PlayerRepository playerRepository,
+                         TeamRepository teamRepository,
+                         TournamentRepository tournamentRepository) {
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#tournamentId")
+    public void setFormat(Long tournamentId, FixtureFormat format) {
+        tournamentRepository.updateFixtureFormat(tournamentId, format);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TOURNAMENT_STATS, key = "#tournamentId")
+    public void write(Long tournamentId, FixtureBatch batch) {
+        Tournament tournament = tournamentRepository.getReferenceById(tournamentId);
+        List<Game> games = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Game game = new Game();
+            game.setTournament(tournament);
+            game.setRound(batch.round(i));
+            game.setPlayer1(playerRepository.getReferenceById(batch.homePlayerId(i)));
+            if (batch.homeTeamId(i) != 0) {
+                game.setTeam1(teamRepository.getReferenceById(batch.homeTeamId(i)));
+            }
+            if (batch.awayPlayerId(i) != 0) {
+                game.setPlayer2(playerRepository.getReferenceById(batch.awayPlayerId(i)));
+            }
+            if (batch.awayTeamId(i) != 0) {
+                game.setTeam2(teamRepository.getReferenceById(batch.awayTeamId(i)));
+            }
+            games.add(game);
+        }
+        gameRepository.saveAll(games);
+        tournamentRepository.incrementRevisions(List.of(tournamentId));
+    }
+}
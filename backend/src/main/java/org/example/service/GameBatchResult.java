@@ -0,0 +1,17 @@
+package org.example.service;
+
+import lombok.Getter;
+import org.example.dto.BatchItemErrorDTO;
+import org.example.model.Game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a batch write: the persisted games and the items that were rejected, by request index.
+ */
+@Getter
+public class GameBatchResult {
+    private final List<Game> created = new ArrayList<>();
+    private final List<BatchItemErrorDTO> errors = new ArrayList<>();
+}
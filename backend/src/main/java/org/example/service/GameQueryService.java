@@ -0,0 +1,122 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.dto.GameDTO;
+import org.example.repository.GameRepository;
+import org.example.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-only game listings. Rows are selected straight into {@link GameDTO}s, so no entities are
+ * hydrated, managed or dirty-checked, and the read-only transaction lets Hibernate skip flushing.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GameQueryService {
+    private static final String CSV_HEADER =
+            "id,player1Id,player2Id,team1Id,team2Id,score1,score2,createdAt,updatedAt,tournamentId,version,round\n";
+
+    private final GameRepository gameRepository;
+    private final TournamentRepository tournamentRepository;
+    private final ScoreWriteBuffer scoreWriteBuffer;
+    private final ObjectWriter gameWriter;
+
+    @Autowired
+    public GameQueryService(GameRepository gameRepository,
+                            TournamentRepository tournamentRepository,
+                            ScoreWriteBuffer scoreWriteBuffer,
+                            ObjectMapper objectMapper) {
+        this.gameRepository = gameRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.scoreWriteBuffer = scoreWriteBuffer;
+        // Consecutive root values are separated by a space unless told otherwise, NDJSON needs a line break
+        this.gameWriter = objectMapper.writerFor(GameDTO.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public List<GameDTO> getTournamentGames(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Collections.emptyList();
+        }
+        List<GameDTO> games = gameRepository.findDTOsByTournamentId(tournamentId);
+        games.forEach(scoreWriteBuffer::overlay);
+        return games;
+    }
+
+    /**
+     * Writes all games of a tournament to {@code out}, one row at a time as they come off the database cursor.
+     * Rows are DTO projections that never enter the persistence context, so memory use does not depend on
+     * the number of games. Must be called on the thread that writes the response, since the transaction
+     * has to stay open while the stream is consumed.
+     */
+    public void exportTournamentGames(Long tournamentId, GameExportFormat format, OutputStream out) throws IOException {
+        try (Stream<GameDTO> games = gameRepository.streamDTOsByTournamentId(tournamentId)
+                .map(scoreWriteBuffer::overlay)) {
+            if (format == GameExportFormat.CSV) {
+                writeCsv(games.iterator(), out);
+            } else {
+                writeNdjson(games.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<GameDTO> games, OutputStream out) throws IOException {
+        if (!games.hasNext()) {
+            return;
+        }
+        JsonGenerator generator = gameWriter.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (games.hasNext()) {
+            gameWriter.writeValue(generator, games.next());
+        }
+        // The separator only goes between values, the last line still needs its terminator
+        generator.writeRaw('\n');
+        generator.close();
+    }
+
+    private void writeCsv(Iterator<GameDTO> games, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        while (games.hasNext()) {
+            GameDTO game = games.next();
+            writeField(writer, game.getId(), ',');
+            writeField(writer, game.getPlayer1Id(), ',');
+            writeField(writer, game.getPlayer2Id(), ',');
+            writeField(writer, game.getTeam1Id(), ',');
+            writeField(writer, game.getTeam2Id(), ',');
+            writeField(writer, game.getScore1(), ',');
+            writeField(writer, game.getScore2(), ',');
+            writeField(writer, game.getCreatedAt(), ',');
+            writeField(writer, game.getUpdatedAt(), ',');
+            writeField(writer, game.getTournamentId(), ',');
+            writeField(writer, game.getVersion(), ',');
+            writeField(writer, game.getRound(), '\n');
+        }
+        writer.flush();
+    }
+
+    private static void writeField(Writer writer, Object value, char separator) throws IOException {
+        // Every column is numeric or an ISO timestamp, so no quoting is needed
+        if (value != null) {
+            writer.write(value.toString());
+        }
+        writer.write(separator);
+    }
+}
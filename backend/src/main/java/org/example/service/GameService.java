@@ -1,70 +1,251 @@
 package org.example.service;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
+import org.example.dto.BatchItemErrorDTO;
 import org.example.dto.CreateGameRequest;
+import org.example.dto.GameScoreEntryDTO;
+import org.example.event.GameChangedEvent;
+import org.example.event.GameEventType;
+import org.example.exception.ConcurrentUpdateException;
 import org.example.exception.ResourceNotFoundException;
+import org.example.mapper.GameMapper;
 import org.example.model.Game;
-import org.example.model.Player;
-import org.example.model.Team;
 import org.example.model.Tournament;
 import org.example.repository.GameRepository;
 import org.example.repository.PlayerRepository;
 import org.example.repository.TeamRepository;
 import org.example.repository.TournamentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
+
 @Service
 public class GameService {
     private final GameRepository gameRepository;
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
     private final TournamentRepository tournamentRepository;
+    private final StandingsService standingsService;
+    private final RatingService ratingService;
+    private final GameMapper gameMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public GameService(GameRepository gameRepository,
                        PlayerRepository playerRepository,
                        TeamRepository teamRepository,
-                       TournamentRepository tournamentRepository) {
+                       TournamentRepository tournamentRepository,
+                       StandingsService standingsService,
+                       RatingService ratingService,
+                       GameMapper gameMapper,
+                       ApplicationEventPublisher eventPublisher) {
         this.gameRepository = gameRepository;
         this.playerRepository = playerRepository;
         this.teamRepository = teamRepository;
         this.tournamentRepository = tournamentRepository;
+        this.standingsService = standingsService;
+        this.ratingService = ratingService;
+        this.gameMapper = gameMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
+    @Timed(value = "tournament.service", extraTags = {"endpoint", "POST /api/tournaments/{tournamentId}/games"},
+            histogram = true, percentiles = {0.5, 0.95, 0.99})
     public Game createGame(CreateGameRequest request) {
+        // The referenced rows are only checked for existence, the game needs nothing but their ids
+        List<Long> players = playerRepository.findExistingIds(List.of(request.getPlayer1Id(), request.getPlayer2Id()));
+        if (!players.contains(request.getPlayer1Id())) {
+            throw new ResourceNotFoundException("Player 1 not found with id: " + request.getPlayer1Id());
+        }
+        if (!players.contains(request.getPlayer2Id())) {
+            throw new ResourceNotFoundException("Player 2 not found with id: " + request.getPlayer2Id());
+        }
+        List<Long> teams = teamRepository.findExistingIds(List.of(request.getTeam1Id(), request.getTeam2Id()));
+        if (!teams.contains(request.getTeam1Id())) {
+            throw new ResourceNotFoundException("Team 1 not found with id: " + request.getTeam1Id());
+        }
+        if (!teams.contains(request.getTeam2Id())) {
+            throw new ResourceNotFoundException("Team 2 not found with id: " + request.getTeam2Id());
+        }
+        if (!tournamentRepository.existsById(request.getTournamentId())) {
+            throw new ResourceNotFoundException("Tournament not found with id: " + request.getTournamentId());
+        }
+
         Game game = new Game();
-        
-        Player player1 = playerRepository.findById(request.getPlayer1Id())
-                .orElseThrow(() -> new RuntimeException("Player 1 not found"));
-        Player player2 = playerRepository.findById(request.getPlayer2Id())
-                .orElseThrow(() -> new RuntimeException("Player 2 not found"));
-
-        Team team1 = teamRepository.findById(request.getTeam1Id())
-                .orElseThrow(() -> new RuntimeException("Team 1 not found"));
-        Team team2 = teamRepository.findById(request.getTeam2Id())
-                .orElseThrow(() -> new RuntimeException("Team 2 not found"));
-
-        Tournament tournament = tournamentRepository.findById(request.getTournamentId())
-                .orElseThrow(() -> new RuntimeException("Tournament not found"));
-
-        game.setPlayer1(player1);
-        game.setPlayer2(player2);
-        game.setTeam1(team1);
-        game.setTeam2(team2);
-        game.setTournament(tournament);
-
-        return gameRepository.save(game);
+        game.setPlayer1(playerRepository.getReferenceById(request.getPlayer1Id()));
+        game.setPlayer2(playerRepository.getReferenceById(request.getPlayer2Id()));
+        game.setTeam1(teamRepository.getReferenceById(request.getTeam1Id()));
+        game.setTeam2(teamRepository.getReferenceById(request.getTeam2Id()));
+        game.setTournament(tournamentRepository.getReferenceById(request.getTournamentId()));
+
+        Game savedGame = gameRepository.save(game);
+        standingsService.registerParticipants(request.getTournamentId(),
+                List.of(request.getPlayer1Id(), request.getPlayer2Id()));
+        tournamentRepository.incrementRevisions(List.of(request.getTournamentId()));
+        publish(GameEventType.CREATED, savedGame, null, null);
+        return savedGame;
     }
 
+    /**
+     * Creates many games of one tournament. All referenced ids are resolved with one query per entity type
+     * and validated in memory; invalid items are reported by index and skipped, the rest are inserted in JDBC batches.
+     */
     @Transactional
-    public void updateGameScore(Long gameId, Integer score1, Integer score2) {
-        gameRepository.findById(gameId).map(game -> {
+    @Timed(value = "tournament.service", extraTags = {"endpoint", "POST /api/tournaments/{tournamentId}/games/batch"},
+            histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public GameBatchResult createGames(Long tournamentId, List<CreateGameRequest> requests) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new ResourceNotFoundException("Tournament not found with id: " + tournamentId);
+        }
+        Set<Long> playerIds = new HashSet<>();
+        Set<Long> teamIds = new HashSet<>();
+        for (CreateGameRequest request : requests) {
+            if (request != null) {
+                playerIds.add(request.getPlayer1Id());
+                playerIds.add(request.getPlayer2Id());
+                teamIds.add(request.getTeam1Id());
+                teamIds.add(request.getTeam2Id());
+            }
+        }
+        playerIds.remove(null);
+        teamIds.remove(null);
+        Set<Long> existingPlayers = new HashSet<>(playerIds.isEmpty()
+                ? Collections.emptyList() : playerRepository.findExistingIds(playerIds));
+        Set<Long> existingTeams = new HashSet<>(teamIds.isEmpty()
+                ? Collections.emptyList() : teamRepository.findExistingIds(teamIds));
+
+        GameBatchResult result = new GameBatchResult();
+        Tournament tournament = tournamentRepository.getReferenceById(tournamentId);
+        Set<Long> participants = new LinkedHashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateGameRequest request = requests.get(i);
+            String error = validate(request, existingPlayers, existingTeams);
+            if (error != null) {
+                result.getErrors().add(new BatchItemErrorDTO(i, error));
+                continue;
+            }
+            Game game = new Game();
+            game.setPlayer1(playerRepository.getReferenceById(request.getPlayer1Id()));
+            game.setPlayer2(playerRepository.getReferenceById(request.getPlayer2Id()));
+            game.setTeam1(teamRepository.getReferenceById(request.getTeam1Id()));
+            game.setTeam2(teamRepository.getReferenceById(request.getTeam2Id()));
+            game.setTournament(tournament);
+            result.getCreated().add(game);
+            participants.add(request.getPlayer1Id());
+            participants.add(request.getPlayer2Id());
+        }
+
+        gameRepository.saveAll(result.getCreated());
+        standingsService.registerParticipants(tournamentId, participants);
+        if (!result.getCreated().isEmpty()) {
+            tournamentRepository.incrementRevisions(List.of(tournamentId));
+        }
+        result.getCreated().forEach(game -> publish(GameEventType.CREATED, game, null, null));
+        return result;
+    }
+
+    private String validate(CreateGameRequest request, Set<Long> existingPlayers, Set<Long> existingTeams) {
+        if (request == null) {
+            return "Game is required";
+        }
+        if (request.getPlayer1Id() == null || request.getPlayer2Id() == null) {
+            return "Player 1 ID and Player 2 ID are required";
+        }
+        if (request.getTeam1Id() == null || request.getTeam2Id() == null) {
+            return "Team 1 ID and Team 2 ID are required";
+        }
+        if (!existingPlayers.contains(request.getPlayer1Id())) {
+            return "Player 1 not found with id: " + request.getPlayer1Id();
+        }
+        if (!existingPlayers.contains(request.getPlayer2Id())) {
+            return "Player 2 not found with id: " + request.getPlayer2Id();
+        }
+        if (!existingTeams.contains(request.getTeam1Id())) {
+            return "Team 1 not found with id: " + request.getTeam1Id();
+        }
+        if (!existingTeams.contains(request.getTeam2Id())) {
+            return "Team 2 not found with id: " + request.getTeam2Id();
+        }
+        return null;
+    }
+
+    /**
+     * Sets the scores of a game. When {@code expectedVersion} is given and the game has moved on, fails with
+     * {@link ConcurrentUpdateException}; a writer racing past the check is caught by the version column at flush
+     * and fails with an {@link org.springframework.dao.OptimisticLockingFailureException}.
+     */
+    @Transactional
+    public Game updateGameScore(Long gameId, Integer score1, Integer score2, Long expectedVersion) {
+        return gameRepository.findById(gameId).map(game -> {
+            checkVersion(game, expectedVersion);
+            Integer previousScore1 = game.getScore1();
+            Integer previousScore2 = game.getScore2();
             game.setScore1(score1);
             game.setScore2(score2);
-            return gameRepository.save(game);
-        }).orElseThrow(() -> new RuntimeException("Game not found with id: " + gameId));
+            standingsService.recordScoreChange(game, previousScore1, previousScore2);
+            ratingService.recordResults(List.of(game));
+            // Flush before publishing so a lost race fails here and the event carries the new version
+            Game saved = gameRepository.saveAndFlush(game);
+            tournamentRepository.incrementRevisions(List.of(game.getTournament().getId()));
+            publish(GameEventType.SCORE_UPDATED, saved, previousScore1, previousScore2);
+            return saved;
+        }).orElseThrow(() -> new ResourceNotFoundException("Game not found with id: " + gameId));
+    }
+
+    /**
+     * Applies many scores at once: the games are loaded with one query, the standings change is accumulated
+     * per player and the dirty games are flushed as batched updates before the events are published.
+     * When a game appears more than once, its last entry wins. A version conflict on any entry fails the whole batch.
+     */
+    @Transactional
+    @Timed(value = "tournament.service", extraTags = {"endpoint", "PUT /api/tournaments/games/scores"},
+            histogram = true, percentiles = {0.5, 0.95, 0.99})
+    public List<Game> updateGameScores(List<GameScoreEntryDTO> scores) {
+        Map<Long, GameScoreEntryDTO> scoresByGameId = new LinkedHashMap<>();
+        for (GameScoreEntryDTO score : scores) {
+            scoresByGameId.remove(score.getGameId());
+            scoresByGameId.put(score.getGameId(), score);
+        }
+        Map<Long, Game> games = new HashMap<>();
+        for (Game game : gameRepository.findAllById(scoresByGameId.keySet())) {
+            games.put(game.getId(), game);
+        }
+        if (games.size() != scoresByGameId.size()) {
+            Set<Long> missing = new TreeSet<>(scoresByGameId.keySet());
+            missing.removeAll(games.keySet());
+            throw new ResourceNotFoundException("Games not found with ids: " + missing);
+        }
+
+        StandingsDelta delta = new StandingsDelta();
+        List<Game> updated = new ArrayList<>(scoresByGameId.size());
+        List<Integer[]> previousScores = new ArrayList<>(scoresByGameId.size());
+        Set<Long> tournamentIds = new HashSet<>();
+        for (GameScoreEntryDTO score : scoresByGameId.values()) {
+            Game game = games.get(score.getGameId());
+            checkVersion(game, score.getExpectedVersion());
+            Integer previousScore1 = game.getScore1();
+            Integer previousScore2 = game.getScore2();
+            game.setScore1(score.getScore1());
+            game.setScore2(score.getScore2());
+            standingsService.addScoreChange(delta, game, previousScore1, previousScore2);
+            previousScores.add(new Integer[]{previousScore1, previousScore2});
+            updated.add(game);
+            tournamentIds.add(game.getTournament().getId());
+        }
+        standingsService.apply(delta);
+        ratingService.recordResults(updated);
+        gameRepository.flush();
+        if (!tournamentIds.isEmpty()) {
+            tournamentRepository.incrementRevisions(tournamentIds);
+        }
+        for (int i = 0; i < updated.size(); i++) {
+            publish(GameEventType.SCORE_UPDATED, updated.get(i), previousScores.get(i)[0], previousScores.get(i)[1]);
+        }
+        return updated;
     }
 
     @Transactional
@@ -75,6 +256,21 @@ public class GameService {
         if (!game.getTournament().getId().equals(tournamentId)) {
             throw new ResourceNotFoundException("Game " + gameId + " does not belong to tournament " + tournamentId);
         }
+        standingsService.recordGameRemoved(game);
+        ratingService.revertResults(List.of(game));
+        tournamentRepository.incrementRevisions(List.of(tournamentId));
+        publish(GameEventType.DELETED, game, game.getScore1(), game.getScore2());
         gameRepository.delete(game);
     }
+
+    private void checkVersion(Game game, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(game.getVersion())) {
+            throw new ConcurrentUpdateException("Game " + game.getId() + " is at version " + game.getVersion()
+                    + ", expected " + expectedVersion);
+        }
+    }
+
+    private void publish(GameEventType type, Game game, Integer previousScore1, Integer previousScore2) {
+        eventPublisher.publishEvent(new GameChangedEvent(type, gameMapper.toDTO(game), previousScore1, previousScore2));
+    }
 }
\ No newline at end of file
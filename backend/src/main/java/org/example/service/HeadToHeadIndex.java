@@ -0,0 +1,94 @@
+package org.example.service;
+
+import org.example.dto.GameDTO;
+import org.example.event.GameChangedEvent;
+import org.example.event.StandingsChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory {@link HeadToHeadMatrix} of the most recently read tournaments, held in a {@link TournamentIndex}. A
+ * matrix is loaded from the completed games on first use; after every committed game write the record of the game's
+ * pair is re-read from the {@code (tournament_id, player1_id, player2_id)} index rather than patched with the change,
+ * so the matrix always converges to the stored games, including changes that committed while it was loading.
+ */
+@Component
+public class HeadToHeadIndex {
+    private static final String RESULTS_SQL =
+            "select player1_id, player2_id, score1, score2 from games " +
+            "where tournament_id = ? and score1 is not null and score2 is not null " +
+            "and player1_id is not null and player2_id is not null";
+    private static final String PAIR_RESULTS_SQL =
+            "select player1_id, player2_id, score1, score2 from games " +
+            "where tournament_id = ? and ((player1_id = ? and player2_id = ?) or (player1_id = ? and player2_id = ?)) " +
+            "and score1 is not null and score2 is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TournamentIndex<HeadToHeadMatrix> matrices;
+
+    @Autowired
+    public HeadToHeadIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${app.head-to-head.max-tournaments:100}") int maxTournaments) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.matrices = new TournamentIndex<>(maxTournaments, this::load);
+    }
+
+    /**
+     * Record of player 1 against player 2: {@code games, player1 wins, player2 wins, draws, player1 goals,
+     * player2 goals}.
+     */
+    public int[] getRecord(Long tournamentId, long player1Id, long player2Id) {
+        return matrices.read(tournamentId, matrix -> {
+            int[] record = new int[6];
+            matrix.get(player1Id, player2Id, record);
+            return record;
+        });
+    }
+
+    /**
+     * Visits the record of a player against each opponent met in a completed game.
+     */
+    void forEachOpponent(Long tournamentId, long playerId, HeadToHeadMatrix.OpponentRecordConsumer consumer) {
+        matrices.read(tournamentId, matrix -> {
+            matrix.forEachOpponent(playerId, consumer);
+            return null;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onGameChanged(GameChangedEvent event) {
+        GameDTO game = event.getGame();
+        if (game.getPlayer1Id() == null || game.getPlayer2Id() == null) {
+            return;
+        }
+        long player1Id = game.getPlayer1Id();
+        long player2Id = game.getPlayer2Id();
+        matrices.update(game.getTournamentId(), matrix -> {
+            matrix.reset(player1Id, player2Id);
+            jdbcTemplate.query(PAIR_RESULTS_SQL, (RowCallbackHandler) rs ->
+                            matrix.addResult(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4)),
+                    game.getTournamentId(), player1Id, player2Id, player2Id, player1Id);
+        });
+    }
+
+    /**
+     * Drops the matrix of a tournament that was deleted or whose standings were rebuilt.
+     */
+    @TransactionalEventListener
+    public void onStandingsChanged(StandingsChangedEvent event) {
+        if (event.getPlayerIds() == null) {
+            matrices.evict(event.getTournamentId());
+        }
+    }
+
+    private HeadToHeadMatrix load(Long tournamentId) {
+        HeadToHeadMatrix matrix = new HeadToHeadMatrix();
+        TournamentRows.stream(jdbcTemplate, RESULTS_SQL, tournamentId,
+                rs -> matrix.addResult(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getInt(4)));
+        return matrix;
+    }
+}
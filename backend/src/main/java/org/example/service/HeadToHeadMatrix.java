@@ -0,0 +1,191 @@
+package org.example.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sparse head-to-head records of one tournament: only pairs that have met take space. Pairs are stored under
+ * their lower player id in an open-addressing hash table with one primitive array per column, so looking up a pair
+ * is O(1) and creates no objects. Every pair is also threaded onto an intrusive linked list of each of its two
+ * players, which lists a player's opponents without scanning the table. Pairs are never removed; a pair whose
+ * games were all deleted is kept with zero counters and skipped. Not thread-safe.
+ */
+final class HeadToHeadMatrix {
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Receives the record of a player against one opponent from {@link #forEachOpponent}.
+     */
+    @FunctionalInterface
+    interface OpponentRecordConsumer {
+        void accept(long opponentId, int games, int wins, int draws, int losses, int goalsFor, int goalsAgainst);
+    }
+
+    private final Map<Long, Integer> firstPairOfPlayer = new HashMap<>();
+    private int[] table;
+    private int mask;
+
+    private long[] lowIds;
+    private long[] highIds;
+    private int[] nextOfLow;
+    private int[] nextOfHigh;
+    private int[] games;
+    private int[] lowWins;
+    private int[] highWins;
+    private int[] lowGoals;
+    private int[] highGoals;
+    private int size;
+
+    HeadToHeadMatrix() {
+        table = new int[DEFAULT_CAPACITY * 2];
+        Arrays.fill(table, NONE);
+        mask = table.length - 1;
+        lowIds = new long[DEFAULT_CAPACITY];
+        highIds = new long[DEFAULT_CAPACITY];
+        nextOfLow = new int[DEFAULT_CAPACITY];
+        nextOfHigh = new int[DEFAULT_CAPACITY];
+        games = new int[DEFAULT_CAPACITY];
+        lowWins = new int[DEFAULT_CAPACITY];
+        highWins = new int[DEFAULT_CAPACITY];
+        lowGoals = new int[DEFAULT_CAPACITY];
+        highGoals = new int[DEFAULT_CAPACITY];
+    }
+
+    void addResult(long player1Id, long player2Id, int score1, int score2) {
+        if (player1Id == player2Id) {
+            return;
+        }
+        int pair = pairSlot(player1Id, player2Id, true);
+        boolean player1IsLow = player1Id < player2Id;
+        int lowScore = player1IsLow ? score1 : score2;
+        int highScore = player1IsLow ? score2 : score1;
+        games[pair]++;
+        lowGoals[pair] += lowScore;
+        highGoals[pair] += highScore;
+        if (lowScore > highScore) {
+            lowWins[pair]++;
+        } else if (highScore > lowScore) {
+            highWins[pair]++;
+        }
+    }
+
+    /**
+     * Clears the record of a pair so that it can be re-added from the stored games.
+     */
+    void reset(long player1Id, long player2Id) {
+        int pair = pairSlot(player1Id, player2Id, false);
+        if (pair != NONE) {
+            games[pair] = 0;
+            lowWins[pair] = 0;
+            highWins[pair] = 0;
+            lowGoals[pair] = 0;
+            highGoals[pair] = 0;
+        }
+    }
+
+    /**
+     * Writes {@code games, player1 wins, player2 wins, draws, player1 goals, player2 goals} into {@code record}.
+     */
+    void get(long player1Id, long player2Id, int[] record) {
+        Arrays.fill(record, 0);
+        int pair = pairSlot(player1Id, player2Id, false);
+        if (pair == NONE) {
+            return;
+        }
+        boolean player1IsLow = player1Id < player2Id;
+        record[0] = games[pair];
+        record[1] = player1IsLow ? lowWins[pair] : highWins[pair];
+        record[2] = player1IsLow ? highWins[pair] : lowWins[pair];
+        record[3] = games[pair] - lowWins[pair] - highWins[pair];
+        record[4] = player1IsLow ? lowGoals[pair] : highGoals[pair];
+        record[5] = player1IsLow ? highGoals[pair] : lowGoals[pair];
+    }
+
+    /**
+     * Visits every opponent the player has a completed game against, in reverse order of
+     * their first meeting.
+     */
+    void forEachOpponent(long playerId, OpponentRecordConsumer consumer) {
+        Integer first = firstPairOfPlayer.get(playerId);
+        int pair = first != null ? first : NONE;
+        while (pair != NONE) {
+            boolean isLow = lowIds[pair] == playerId;
+            if (games[pair] > 0) {
+                int wins = isLow ? lowWins[pair] : highWins[pair];
+                int losses = isLow ? highWins[pair] : lowWins[pair];
+                consumer.accept(isLow ? highIds[pair] : lowIds[pair], games[pair], wins,
+                        games[pair] - wins - losses, losses,
+                        isLow ? lowGoals[pair] : highGoals[pair],
+                        isLow ? highGoals[pair] : lowGoals[pair]);
+            }
+            pair = isLow ? nextOfLow[pair] : nextOfHigh[pair];
+        }
+    }
+
+    private int pairSlot(long player1Id, long player2Id, boolean create) {
+        long low = Math.min(player1Id, player2Id);
+        long high = Math.max(player1Id, player2Id);
+        int index = hash(low, high) & mask;
+        while (true) {
+            int pair = table[index];
+            if (pair == NONE) {
+                return create ? insert(index, low, high) : NONE;
+            }
+            if (lowIds[pair] == low && highIds[pair] == high) {
+                return pair;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int insert(int index, long low, long high) {
+        if (size == lowIds.length) {
+            growColumns();
+        }
+        int pair = size++;
+        lowIds[pair] = low;
+        highIds[pair] = high;
+        Integer lowHead = firstPairOfPlayer.put(low, pair);
+        nextOfLow[pair] = lowHead != null ? lowHead : NONE;
+        Integer highHead = firstPairOfPlayer.put(high, pair);
+        nextOfHigh[pair] = highHead != null ? highHead : NONE;
+        table[index] = pair;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return pair;
+    }
+
+    private void growColumns() {
+        int capacity = lowIds.length * 2;
+        lowIds = Arrays.copyOf(lowIds, capacity);
+        highIds = Arrays.copyOf(highIds, capacity);
+        nextOfLow = Arrays.copyOf(nextOfLow, capacity);
+        nextOfHigh = Arrays.copyOf(nextOfHigh, capacity);
+        games = Arrays.copyOf(games, capacity);
+        lowWins = Arrays.copyOf(lowWins, capacity);
+        highWins = Arrays.copyOf(highWins, capacity);
+        lowGoals = Arrays.copyOf(lowGoals, capacity);
+        highGoals = Arrays.copyOf(highGoals, capacity);
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        Arrays.fill(table, NONE);
+        mask = table.length - 1;
+        for (int pair = 0; pair < size; pair++) {
+            int index = hash(lowIds[pair], highIds[pair]) & mask;
+            while (table[index] != NONE) {
+                index = (index + 1) & mask;
+            }
+            table[index] = pair;
+        }
+    }
+
+    private static int hash(long low, long high) {
+        long h = (low * 0x9E3779B97F4A7C15L) ^ (high * 0xC2B2AE3D27D4EB4FL);
+        return (int) (h ^ (h >>> 32));
+    }
+}
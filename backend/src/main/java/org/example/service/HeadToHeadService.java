@@ -0,0 +1,86 @@
+package org.example.service;
+
+import org.example.dto.HeadToHeadDTO;
+import org.example.dto.OpponentRecordDTO;
+import org.example.model.Player;
+import org.example.repository.PlayerRepository;
+import org.example.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Head-to-head records between players of a tournament, served from the {@link HeadToHeadIndex}.
+ */
+@Service
+public class HeadToHeadService {
+    private final TournamentRepository tournamentRepository;
+    private final PlayerRepository playerRepository;
+    private final HeadToHeadIndex headToHeadIndex;
+
+    @Autowired
+    public HeadToHeadService(TournamentRepository tournamentRepository,
+                             PlayerRepository playerRepository,
+                             HeadToHeadIndex headToHeadIndex) {
+        this.tournamentRepository = tournamentRepository;
+        this.playerRepository = playerRepository;
+        this.headToHeadIndex = headToHeadIndex;
+    }
+
+    /**
+     * Completed games between two players; all counters are zero if they have not met.
+     */
+    public Optional<HeadToHeadDTO> getHeadToHead(Long tournamentId, Long player1Id, Long player2Id) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Optional.empty();
+        }
+        int[] record = headToHeadIndex.getRecord(tournamentId, player1Id, player2Id);
+        HeadToHeadDTO headToHead = new HeadToHeadDTO();
+        headToHead.setTournamentId(tournamentId);
+        headToHead.setPlayer1Id(player1Id);
+        headToHead.setPlayer2Id(player2Id);
+        headToHead.setGames(record[0]);
+        headToHead.setPlayer1Wins(record[1]);
+        headToHead.setPlayer2Wins(record[2]);
+        headToHead.setDraws(record[3]);
+        headToHead.setPlayer1Goals(record[4]);
+        headToHead.setPlayer2Goals(record[5]);
+        return Optional.of(headToHead);
+    }
+
+    /**
+     * Record of a player against every opponent met in a completed game, ordered by opponent id.
+     */
+    public Optional<List<OpponentRecordDTO>> getOpponentRecords(Long tournamentId, Long playerId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Optional.empty();
+        }
+        List<OpponentRecordDTO> records = new ArrayList<>();
+        headToHeadIndex.forEachOpponent(tournamentId, playerId,
+                (opponentId, games, wins, draws, losses, goalsFor, goalsAgainst) -> {
+                    OpponentRecordDTO record = new OpponentRecordDTO();
+                    record.setOpponentId(opponentId);
+                    record.setGames(games);
+                    record.setWins(wins);
+                    record.setDraws(draws);
+                    record.setLosses(losses);
+                    record.setGoalsFor(goalsFor);
+                    record.setGoalsAgainst(goalsAgainst);
+                    records.add(record);
+                });
+        if (!records.isEmpty()) {
+            Map<Long, String> names = new HashMap<>();
+            List<Long> opponentIds = records.stream()
+                    .map(OpponentRecordDTO::getOpponentId)
+                    .collect(Collectors.toList());
+            for (Player player : playerRepository.findAllById(opponentIds)) {
+                names.put(player.getId(), player.getName());
+            }
+            records.forEach(record -> record.setOpponentName(names.get(record.getOpponentId())));
+            records.sort(Comparator.comparing(OpponentRecordDTO::getOpponentId));
+        }
+        return Optional.of(records);
+    }
+}
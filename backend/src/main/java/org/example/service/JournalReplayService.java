@@ -0,0 +1,89 @@
+package org.example.service;
+
+import org.example.dto.JournalStatusDTO;
+import org.example.dto.TournamentStatsDTO;
+import org.example.journal.JournalRecord;
+import org.example.journal.ScoreJournal;
+import org.example.model.Player;
+import org.example.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Rebuilds derived data from the {@link ScoreJournal} instead of the {@code games} table. Records are read in place
+ * from the mapped segments into a {@link StatsAccumulator}, so a replay allocates nothing per record.
+ */
+@Service
+@ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+public class JournalReplayService {
+    private final ScoreJournal journal;
+    private final PlayerRepository playerRepository;
+
+    @Autowired
+    public JournalReplayService(ScoreJournal journal, PlayerRepository playerRepository) {
+        this.journal = journal;
+        this.playerRepository = playerRepository;
+    }
+
+    public JournalStatusDTO getStatus() {
+        JournalStatusDTO status = new JournalStatusDTO();
+        status.setFirstOffset(journal.getFirstOffset());
+        status.setNextOffset(journal.getNextOffset());
+        status.setFlushedOffset(journal.getFlushedOffset());
+        status.setSegments(journal.getSegmentCount());
+        return status;
+    }
+
+    /**
+     * Standings of a tournament from the journal records at and after {@code fromOffset}. From offset 0 this equals
+     * the materialized standings when the journal has been enabled since the tournament started; from a later offset
+     * it is the change since that point. Game counts only include games journaled as created.
+     */
+    public TournamentStatsDTO replayStandings(long tournamentId, long fromOffset) {
+        StatsAccumulator accumulator = new StatsAccumulator();
+        int[] games = new int[2];
+        journal.replay(fromOffset, record -> {
+            if (record.getTournamentId() == tournamentId) {
+                apply(record, accumulator, games);
+            }
+        });
+
+        Map<Long, TournamentStatsDTO.PlayerStats> playerStats = accumulator.toPlayerStats();
+        for (Player player : playerRepository.findAllById(playerStats.keySet())) {
+            playerStats.get(player.getId()).setPlayerName(player.getName());
+        }
+        TournamentStatsDTO stats = new TournamentStatsDTO();
+        stats.setTournamentId(tournamentId);
+        stats.setTotalGames(games[0]);
+        stats.setCompletedGames(games[1]);
+        stats.setPlayerStats(new ArrayList<>(playerStats.values()));
+        return stats;
+    }
+
+    private static void apply(JournalRecord record, StatsAccumulator accumulator, int[] games) {
+        long player1Id = record.getPlayer1Id();
+        long player2Id = record.getPlayer2Id();
+        switch (record.getType()) {
+            case CREATED -> {
+                games[0]++;
+                accumulator.addParticipant(player1Id);
+                accumulator.addParticipant(player2Id);
+            }
+            case DELETED -> games[0]--;
+            default -> {
+            }
+        }
+        if (record.hasPreviousScores()) {
+            accumulator.removeResult(player1Id, player2Id, record.getPreviousScore1(), record.getPreviousScore2());
+            games[1]--;
+        }
+        if (record.hasScores()) {
+            accumulator.addResult(player1Id, player2Id, record.getScore1(), record.getScore2());
+            games[1]++;
+        }
+    }
+}
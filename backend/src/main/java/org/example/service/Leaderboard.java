@@ -0,0 +1,248 @@
+package org.example.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ordered standings of one tournament: an order-statistic treap over primitive columns, ranked by points, then goal
+ * difference, then goals for (all descending) and finally player id. Inserting, removing and re-ranking a player, the
+ * rank of a player and the player at a given rank are all O(log n) expected. Not thread-safe.
+ */
+final class Leaderboard {
+    static final int WIN_POINTS = 3;
+    static final int DRAW_POINTS = 1;
+
+    /**
+     * Index of the empty subtree; slot 0 of every column is reserved for it and keeps a size of 0.
+     */
+    private static final int NIL = 0;
+
+    private final Map<Long, Integer> nodesByPlayer = new HashMap<>();
+    private long[] playerIds;
+    private int[] points;
+    private int[] goalDifference;
+    private int[] goalsFor;
+    private int[] priority;
+    private int[] left;
+    private int[] right;
+    private int[] size;
+    private int root = NIL;
+    private int allocated = 1;
+    private int freeList = NIL;
+    private int seed = 0x2545F491;
+
+    Leaderboard(int expectedPlayers) {
+        int capacity = Math.max(expectedPlayers, 16) + 1;
+        playerIds = new long[capacity];
+        points = new int[capacity];
+        goalDifference = new int[capacity];
+        goalsFor = new int[capacity];
+        priority = new int[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        size = new int[capacity];
+    }
+
+    static int points(int wins, int draws) {
+        return wins * WIN_POINTS + draws * DRAW_POINTS;
+    }
+
+    int size() {
+        return size[root];
+    }
+
+    /**
+     * Inserts a player or moves it to the position of its new standing.
+     */
+    void put(long playerId, int wins, int draws, int goalsFor, int goalsAgainst) {
+        Integer existing = nodesByPlayer.get(playerId);
+        int node;
+        if (existing != null) {
+            node = existing;
+            root = erase(root, node);
+        } else {
+            node = allocate();
+            playerIds[node] = playerId;
+            nodesByPlayer.put(playerId, node);
+        }
+        points[node] = points(wins, draws);
+        goalDifference[node] = goalsFor - goalsAgainst;
+        this.goalsFor[node] = goalsFor;
+        priority[node] = nextPriority();
+        left[node] = NIL;
+        right[node] = NIL;
+        size[node] = 1;
+        root = insert(root, node);
+    }
+
+    void remove(long playerId) {
+        Integer node = nodesByPlayer.remove(playerId);
+        if (node != null) {
+            root = erase(root, node);
+            left[node] = freeList;
+            freeList = node;
+        }
+    }
+
+    /**
+     * Zero-based rank of a player, or -1 when the player is not on the leaderboard.
+     */
+    int rankOf(long playerId) {
+        Integer found = nodesByPlayer.get(playerId);
+        if (found == null) {
+            return -1;
+        }
+        int node = found;
+        int rank = 0;
+        int current = root;
+        while (current != node) {
+            if (before(node, current)) {
+                current = left[current];
+            } else {
+                rank += size[left[current]] + 1;
+                current = right[current];
+            }
+        }
+        return rank + size[left[node]];
+    }
+
+    /**
+     * Player ids at ranks {@code offset} to {@code offset + limit - 1}, best first; shorter at the end of the board.
+     */
+    long[] range(int offset, int limit) {
+        int count = Math.max(0, Math.min(limit, size() - offset));
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = playerIds[select(offset + i)];
+        }
+        return result;
+    }
+
+    private int select(int rank) {
+        int current = root;
+        while (true) {
+            int leftSize = size[left[current]];
+            if (rank < leftSize) {
+                current = left[current];
+            } else if (rank == leftSize) {
+                return current;
+            } else {
+                rank -= leftSize + 1;
+                current = right[current];
+            }
+        }
+    }
+
+    private boolean before(int a, int b) {
+        if (points[a] != points[b]) {
+            return points[a] > points[b];
+        }
+        if (goalDifference[a] != goalDifference[b]) {
+            return goalDifference[a] > goalDifference[b];
+        }
+        if (goalsFor[a] != goalsFor[b]) {
+            return goalsFor[a] > goalsFor[b];
+        }
+        return playerIds[a] < playerIds[b];
+    }
+
+    private int insert(int tree, int node) {
+        if (tree == NIL) {
+            return node;
+        }
+        if (before(node, tree)) {
+            left[tree] = insert(left[tree], node);
+            if (priority[left[tree]] > priority[tree]) {
+                tree = rotateRight(tree);
+            }
+        } else {
+            right[tree] = insert(right[tree], node);
+            if (priority[right[tree]] > priority[tree]) {
+                tree = rotateLeft(tree);
+            }
+        }
+        update(tree);
+        return tree;
+    }
+
+    private int erase(int tree, int node) {
+        if (tree == node) {
+            return merge(left[node], right[node]);
+        }
+        if (before(node, tree)) {
+            left[tree] = erase(left[tree], node);
+        } else {
+            right[tree] = erase(right[tree], node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    private int merge(int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        update(b);
+        return b;
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(int node) {
+        size[node] = size[left[node]] + size[right[node]] + 1;
+    }
+
+    private int allocate() {
+        if (freeList != NIL) {
+            int node = freeList;
+            freeList = left[node];
+            return node;
+        }
+        if (allocated == playerIds.length) {
+            int capacity = playerIds.length * 2;
+            playerIds = Arrays.copyOf(playerIds, capacity);
+            points = Arrays.copyOf(points, capacity);
+            goalDifference = Arrays.copyOf(goalDifference, capacity);
+            goalsFor = Arrays.copyOf(goalsFor, capacity);
+            priority = Arrays.copyOf(priority, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            size = Arrays.copyOf(size, capacity);
+        }
+        return allocated++;
+    }
+
+    private int nextPriority() {
+        // xorshift32: cheap, allocation-free and good enough to keep the treap balanced
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.service;
+
+import org.example.event.StandingsChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * In-memory {@link Leaderboard}s of the most recently read tournaments, held in a {@link TournamentIndex}. A board
+ * is loaded from the materialized standings on first use and then kept current by re-reading the changed rows after
+ * every commit, like the rating index, so it always converges to the stored standings whatever order writers commit
+ * in.
+ */
+@Component
+public class LeaderboardIndex {
+    private static final String STANDINGS_SQL =
+            "select player_id, wins, draws, goals_for, goals_against from player_tournament where tournament_id = ?";
+    private static final String PLAYER_STANDINGS_SQL =
+            "select player_id, wins, draws, goals_for, goals_against from player_tournament " +
+            "where tournament_id = :tournamentId and player_id in (:playerIds)";
+    /**
+     * Above this many changed players (e.g. generated fixtures) the board is dropped and reloaded on next read.
+     */
+    private static final int MAX_PARTIAL_REFRESH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TournamentIndex<Leaderboard> boards;
+
+    @Autowired
+    public LeaderboardIndex(JdbcTemplate jdbcTemplate,
+                            NamedParameterJdbcTemplate namedJdbcTemplate,
+                            @Value("${app.leaderboards.max-tournaments:100}") int maxTournaments) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.boards = new TournamentIndex<>(maxTournaments, this::load);
+    }
+
+    /**
+     * Player ids at ranks {@code offset} to {@code offset + limit - 1}, best first.
+     */
+    public long[] page(Long tournamentId, int offset, int limit) {
+        return boards.read(tournamentId, leaderboard -> leaderboard.range(offset, limit));
+    }
+
+    /**
+     * Zero-based rank of a player, or -1 when the player has no standings in the tournament.
+     */
+    public int rankOf(Long tournamentId, long playerId) {
+        return boards.read(tournamentId, leaderboard -> leaderboard.rankOf(playerId));
+    }
+
+    public int size(Long tournamentId) {
+        return boards.read(tournamentId, Leaderboard::size);
+    }
+
+    @TransactionalEventListener
+    public void onStandingsChanged(StandingsChangedEvent event) {
+        Set<Long> playerIds = event.getPlayerIds();
+        if (playerIds == null || playerIds.size() > MAX_PARTIAL_REFRESH) {
+            boards.evict(event.getTournamentId());
+            return;
+        }
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        boards.update(event.getTournamentId(), leaderboard -> {
+            Set<Long> missing = new HashSet<>(playerIds);
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("tournamentId", event.getTournamentId())
+                    .addValue("playerIds", playerIds);
+            namedJdbcTemplate.query(PLAYER_STANDINGS_SQL, parameters, (RowCallbackHandler) rs -> {
+                missing.remove(rs.getLong(1));
+                put(leaderboard, rs);
+            });
+            for (Long playerId : missing) {
+                leaderboard.remove(playerId);
+            }
+        });
+    }
+
+    private Leaderboard load(Long tournamentId) {
+        Leaderboard leaderboard = new Leaderboard(0);
+        TournamentRows.stream(jdbcTemplate, STANDINGS_SQL, tournamentId, rs -> put(leaderboard, rs));
+        return leaderboard;
+    }
+
+    private static void put(Leaderboard leaderboard, ResultSet rs) throws SQLException {
+        leaderboard.put(rs.getLong(1), rs.getInt(2), rs.getInt(3), rs.getInt(4), rs.getInt(5));
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.service;
+
+import org.example.dto.LeaderboardDTO;
+import org.example.dto.LeaderboardEntryDTO;
+import org.example.model.PlayerTournament;
+import org.example.repository.PlayerTournamentRepository;
+import org.example.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Ranked standings of a tournament, ordered by points (3 per win, 1 per draw), then goal difference, then goals for.
+ * Ranks come from the {@link LeaderboardIndex}; only the rows of the requested page are loaded from the database.
+ */
+@Service
+public class LeaderboardService {
+    private final TournamentRepository tournamentRepository;
+    private final PlayerTournamentRepository playerTournamentRepository;
+    private final LeaderboardIndex leaderboardIndex;
+
+    @Autowired
+    public LeaderboardService(TournamentRepository tournamentRepository,
+                              PlayerTournamentRepository playerTournamentRepository,
+                              LeaderboardIndex leaderboardIndex) {
+        this.tournamentRepository = tournamentRepository;
+        this.playerTournamentRepository = playerTournamentRepository;
+        this.leaderboardIndex = leaderboardIndex;
+    }
+
+    public Optional<LeaderboardDTO> getLeaderboard(Long tournamentId, int offset, int limit) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Optional.empty();
+        }
+        long[] playerIds = leaderboardIndex.page(tournamentId, offset, limit);
+        List<Long> ids = new ArrayList<>(playerIds.length);
+        for (long playerId : playerIds) {
+            ids.add(playerId);
+        }
+        Map<Long, PlayerTournament> rows = new HashMap<>();
+        if (!ids.isEmpty()) {
+            List<PlayerTournament> standings =
+                    playerTournamentRepository.findStandingsByTournamentIdAndPlayerIds(tournamentId, ids);
+            for (PlayerTournament pt : standings) {
+                rows.put(pt.getPlayer().getId(), pt);
+            }
+        }
+
+        List<LeaderboardEntryDTO> entries = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            PlayerTournament row = rows.get(ids.get(i));
+            if (row != null) {
+                entries.add(toEntry(offset + i + 1, row));
+            }
+        }
+        LeaderboardDTO leaderboard = new LeaderboardDTO();
+        leaderboard.setTournamentId(tournamentId);
+        leaderboard.setTotalPlayers(leaderboardIndex.size(tournamentId));
+        leaderboard.setOffset(offset);
+        leaderboard.setEntries(entries);
+        return Optional.of(leaderboard);
+    }
+
+    /**
+     * Standing of one player, or empty when the tournament does not exist or the player has no standings in it.
+     */
+    public Optional<LeaderboardEntryDTO> getStanding(Long tournamentId, Long playerId) {
+        // Checked first so that unknown ids do not load empty boards into the index and evict real ones
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Optional.empty();
+        }
+        int rank = leaderboardIndex.rankOf(tournamentId, playerId);
+        if (rank < 0) {
+            return Optional.empty();
+        }
+        return playerTournamentRepository.findStandingsByTournamentIdAndPlayerIds(tournamentId, List.of(playerId))
+                .stream()
+                .findFirst()
+                .map(row -> toEntry(rank + 1, row));
+    }
+
+    private static LeaderboardEntryDTO toEntry(int rank, PlayerTournament row) {
+        LeaderboardEntryDTO entry = new LeaderboardEntryDTO();
+        entry.setRank(rank);
+        entry.setPlayerId(row.getPlayer().getId());
+        entry.setPlayerName(row.getPlayer().getName());
+        entry.setPoints(Leaderboard.points(row.getWins(), row.getDraws()));
+        entry.setGamesPlayed(row.getGamesPlayed());
+        entry.setWins(row.getWins());
+        entry.setDraws(row.getDraws());
+        entry.setLosses(row.getLosses());
+        entry.setGoalsFor(row.getGoalsFor());
+        entry.setGoalsAgainst(row.getGoalsAgainst());
+        entry.setGoalDifference(row.getGoalsFor() - row.getGoalsAgainst());
+        return entry;
+    }
+}
@@ -0,0 +1,225 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.example.dto.TournamentStatsDTO;
+import org.example.event.GameChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Pushes game and standings changes of a tournament to Server-Sent Events subscribers.
+ * <p>
+ * Events are queued after the writing transaction commits and fanned out on a small dedicated pool,
+ * so the write path never waits for subscribers. Events queued while a dispatch is running are coalesced
+ * into one standings update, and every payload is serialized once regardless of the number of subscribers.
+ * Idle subscriptions hold no thread, only an async servlet request.
+ */
+@Service
+public class LiveScoreService {
+    private static final Logger log = LoggerFactory.getLogger(LiveScoreService.class);
+    private static final String STANDINGS_EVENT = "standings";
+
+    private final TournamentService tournamentService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeout;
+    private final int maxPendingEvents;
+    private final ThreadPoolTaskExecutor dispatcher;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, BlockingQueue<GameChangedEvent>> pendingEvents = new ConcurrentHashMap<>();
+    private final Set<Long> resyncRequired = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dispatching = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LiveScoreService(TournamentService tournamentService,
+                            ObjectMapper objectMapper,
+                            @Value("${app.live.emitter-timeout-ms:1800000}") long emitterTimeout,
+                            @Value("${app.live.dispatch-threads:4}") int dispatchThreads,
+                            @Value("${app.live.max-pending-events:10000}") int maxPendingEvents,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.tournamentService = tournamentService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeout = emitterTimeout;
+        this.maxPendingEvents = maxPendingEvents;
+
+        this.dispatcher = new ThreadPoolTaskExecutor();
+        this.dispatcher.setCorePoolSize(dispatchThreads);
+        this.dispatcher.setMaxPoolSize(dispatchThreads);
+        this.dispatcher.setQueueCapacity(1000);
+        this.dispatcher.setThreadNamePrefix("live-dispatch-");
+        if (virtualThreads) {
+            // Keep the pool bounded but let writes to slow subscribers park instead of holding a platform thread
+            this.dispatcher.setThreadFactory(new VirtualThreadTaskExecutor("live-dispatch-").getVirtualThreadFactory());
+        }
+        this.dispatcher.initialize();
+    }
+
+    public SseEmitter subscribe(Long tournamentId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        subscribers.compute(tournamentId, (id, emitters) -> {
+            Set<SseEmitter> result = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            result.add(emitter);
+            return result;
+        });
+        Runnable unsubscribe = () -> unsubscribe(tournamentId, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        tournamentService.getTournamentStats(tournamentId)
+                .ifPresent(stats -> send(tournamentId, emitter, STANDINGS_EVENT, toJson(stats)));
+        return emitter;
+    }
+
+    public int getSubscriberCount(Long tournamentId) {
+        Set<SseEmitter> emitters = subscribers.get(tournamentId);
+        return emitters != null ? emitters.size() : 0;
+    }
+
+    @TransactionalEventListener
+    public void onGameChanged(GameChangedEvent event) {
+        Long tournamentId = event.getTournamentId();
+        if (!subscribers.containsKey(tournamentId)) {
+            return;
+        }
+        BlockingQueue<GameChangedEvent> queue = pendingEvents.computeIfAbsent(tournamentId,
+                id -> new LinkedBlockingQueue<>(maxPendingEvents));
+        if (!queue.offer(event)) {
+            // Subscribers are too far behind; drop the backlog and send them a full snapshot instead
+            queue.clear();
+            resyncRequired.add(tournamentId);
+        }
+        scheduleDispatch(tournamentId);
+    }
+
+    @Scheduled(fixedRateString = "${app.live.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        for (Long tournamentId : subscribers.keySet()) {
+            execute(() -> {
+                for (SseEmitter emitter : emittersOf(tournamentId)) {
+                    try {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } catch (IOException | IllegalStateException e) {
+                        emitter.completeWithError(e);
+                    }
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    private void scheduleDispatch(Long tournamentId) {
+        if (dispatching.add(tournamentId) && !execute(() -> dispatch(tournamentId))) {
+            log.warn("Live update dispatcher is saturated, tournament {} will be resynced", tournamentId);
+            dispatching.remove(tournamentId);
+            resyncRequired.add(tournamentId);
+        }
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            dispatcher.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void dispatch(Long tournamentId) {
+        try {
+            List<GameChangedEvent> events = new ArrayList<>();
+            BlockingQueue<GameChangedEvent> queue = pendingEvents.get(tournamentId);
+            if (queue != null) {
+                queue.drainTo(events);
+            }
+            if (resyncRequired.remove(tournamentId)) {
+                tournamentService.getTournamentStats(tournamentId)
+                        .ifPresent(stats -> broadcast(tournamentId, STANDINGS_EVENT, toJson(stats)));
+                return;
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+
+            Set<Long> affectedPlayers = new HashSet<>();
+            for (GameChangedEvent event : events) {
+                broadcast(tournamentId, event.getType().getEventName(), toJson(event.getGame()));
+                addIfPresent(affectedPlayers, event.getGame().getPlayer1Id());
+                addIfPresent(affectedPlayers, event.getGame().getPlayer2Id());
+            }
+            TournamentStatsDTO standings = tournamentService.getTournamentStats(tournamentId, affectedPlayers);
+            broadcast(tournamentId, STANDINGS_EVENT, toJson(standings));
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch live updates for tournament {}", tournamentId, e);
+        } finally {
+            dispatching.remove(tournamentId);
+            BlockingQueue<GameChangedEvent> queue = pendingEvents.get(tournamentId);
+            if ((queue != null && !queue.isEmpty()) || resyncRequired.contains(tournamentId)) {
+                scheduleDispatch(tournamentId);
+            }
+        }
+    }
+
+    private void broadcast(Long tournamentId, String eventName, String json) {
+        for (SseEmitter emitter : emittersOf(tournamentId)) {
+            send(tournamentId, emitter, eventName, json);
+        }
+    }
+
+    private void send(Long tournamentId, SseEmitter emitter, String eventName, String json) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(json));
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(tournamentId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Long tournamentId, SseEmitter emitter) {
+        subscribers.computeIfPresent(tournamentId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (!subscribers.containsKey(tournamentId)) {
+            pendingEvents.remove(tournamentId);
+        }
+    }
+
+    private Set<SseEmitter> emittersOf(Long tournamentId) {
+        return subscribers.getOrDefault(tournamentId, Collections.emptySet());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize live update", e);
+        }
+    }
+
+    private static void addIfPresent(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+}
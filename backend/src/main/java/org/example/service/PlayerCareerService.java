@@ -0,0 +1,111 @@
+package org.example.service;
+
+import org.example.dto.CareerStatsDTO;
+import org.example.dto.PlayerRatingDTO;
+import org.example.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Results of players across all tournaments, aggregated by the database from the completed games. Each game is
+ * read once per requested side: the player1 and player2 sides come from their covering
+ * {@code (playerN_id, tournament_id, score1, score2)} indexes, are unioned with the scores swapped for player 2,
+ * and a single {@code GROUP BY} with conditional sums turns them into one row per player and tournament. Only
+ * index entries of the requested players are read, so the cost grows with their games, not with the table. An
+ * {@code or} over both columns would not use either index.
+ */
+@Service
+public class PlayerCareerService {
+    private static final String CAREER_SQL =
+            "select player_id, tournament_id, count(*), " +
+            "sum(case when goals_for > goals_against then 1 else 0 end), " +
+            "sum(case when goals_for = goals_against then 1 else 0 end), " +
+            "sum(case when goals_for < goals_against then 1 else 0 end), " +
+            "sum(goals_for), sum(goals_against) " +
+            "from (select player1_id as player_id, tournament_id, score1 as goals_for, score2 as goals_against " +
+            "      from games where player1_id in (:playerIds) and score1 is not null and score2 is not null " +
+            "      union all " +
+            "      select player2_id, tournament_id, score2, score1 " +
+            "      from games where player2_id in (:playerIds) and score1 is not null and score2 is not null) sides " +
+            "group by player_id, tournament_id " +
+            "order by player_id, tournament_id";
+
+    private final PlayerRepository playerRepository;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    public PlayerCareerService(PlayerRepository playerRepository, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.playerRepository = playerRepository;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    public Optional<CareerStatsDTO> getCareer(Long playerId, boolean byTournament) {
+        return getCareers(List.of(playerId), byTournament).stream().findFirst();
+    }
+
+    /**
+     * Career stats of the given players in the order requested; unknown ids are skipped and players without
+     * completed games get zeros.
+     */
+    public List<CareerStatsDTO> getCareers(Collection<Long> playerIds, boolean byTournament) {
+        Map<Long, CareerStatsDTO> careers = new LinkedHashMap<>();
+        Map<Long, String> names = new HashMap<>();
+        for (PlayerRatingDTO player : playerRepository.findRatings(playerIds)) {
+            names.put(player.getPlayerId(), player.getPlayerName());
+        }
+        for (Long playerId : playerIds) {
+            if (names.containsKey(playerId) && !careers.containsKey(playerId)) {
+                CareerStatsDTO career = new CareerStatsDTO();
+                career.setPlayerId(playerId);
+                career.setPlayerName(names.get(playerId));
+                if (byTournament) {
+                    career.setTournaments(new ArrayList<>());
+                }
+                careers.put(playerId, career);
+            }
+        }
+        if (careers.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource("playerIds", careers.keySet());
+        namedJdbcTemplate.query(CAREER_SQL, parameters, (RowCallbackHandler) rs -> {
+            CareerStatsDTO career = careers.get(rs.getLong(1));
+            long tournamentId = rs.getLong(2);
+            boolean inTournament = !rs.wasNull();
+            int games = rs.getInt(3);
+            int wins = rs.getInt(4);
+            int draws = rs.getInt(5);
+            int losses = rs.getInt(6);
+            int goalsFor = rs.getInt(7);
+            int goalsAgainst = rs.getInt(8);
+
+            career.setGamesPlayed(career.getGamesPlayed() + games);
+            career.setWins(career.getWins() + wins);
+            career.setDraws(career.getDraws() + draws);
+            career.setLosses(career.getLosses() + losses);
+            career.setGoalsFor(career.getGoalsFor() + goalsFor);
+            career.setGoalsAgainst(career.getGoalsAgainst() + goalsAgainst);
+            if (inTournament) {
+                career.setTournamentsPlayed(career.getTournamentsPlayed() + 1);
+            }
+            if (byTournament) {
+                CareerStatsDTO.TournamentRecord record = new CareerStatsDTO.TournamentRecord();
+                record.setTournamentId(inTournament ? tournamentId : null);
+                record.setGamesPlayed(games);
+                record.setWins(wins);
+                record.setDraws(draws);
+                record.setLosses(losses);
+                record.setGoalsFor(goalsFor);
+                record.setGoalsAgainst(goalsAgainst);
+                career.getTournaments().add(record);
+            }
+        });
+        return new ArrayList<>(careers.values());
+    }
+}
@@ -1,46 +1,88 @@
 package org.example.service;
 
 import jakarta.transaction.Transactional;
+import org.example.config.CacheConfig;
+import org.example.dto.PlayerDTO;
+import org.example.event.RatingsChangedEvent;
+import org.example.exception.ResourceNotFoundException;
+import org.example.mapper.PlayerMapper;
 import org.example.model.Player;
 import org.example.repository.PlayerRepository;
+import org.example.repository.TournamentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class PlayerService {
     private final PlayerRepository playerRepository;
+    private final PlayerMapper playerMapper;
+    private final TournamentRepository tournamentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public PlayerService(PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository,
+                         PlayerMapper playerMapper,
+                         TournamentRepository tournamentRepository,
+                         ApplicationEventPublisher eventPublisher) {
         this.playerRepository = playerRepository;
+        this.playerMapper = playerMapper;
+        this.tournamentRepository = tournamentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Player> findAll() {
         return playerRepository.findAll();
     }
 
-    public Optional<Player> findById(Long id) {
-        return playerRepository.findById(id);
+    /**
+     * Returns up to {@code limit} players with an id greater than {@code after}, ordered by id.
+     */
+    public List<Player> findPage(Long after, int limit) {
+        return playerRepository.findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L, Limit.of(limit));
+    }
+
+    /**
+     * Looks a player up, served from the players cache. The cache holds DTOs rather than entities, so nothing
+     * cached is attached to a persistence context or shared with the write paths.
+     */
+    @Cacheable(cacheNames = CacheConfig.PLAYERS, key = "#id", unless = "#result == null")
+    public Optional<PlayerDTO> findById(Long id) {
+        return playerRepository.findById(id).map(playerMapper::toDTO);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS, key = "#result.id")
     public Player save(Player player) {
-        return playerRepository.save(player);
+        Player saved = playerRepository.save(player);
+        eventPublisher.publishEvent(new RatingsChangedEvent(Set.of(saved.getId())));
+        return saved;
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS, key = "#id")
     public void delete(Long id) {
         playerRepository.deleteById(id);
+        eventPublisher.publishEvent(new RatingsChangedEvent(Set.of(id)));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS, key = "#id")
     public Player update(Long id, Player playerDetails) {
-        return playerRepository.findById(id).map(player -> {
-            player.setName(playerDetails.getName());
-            return playerRepository.save(player);
-        }).orElseThrow(() -> new RuntimeException("Player not found with id: " + id));
+        if (!playerRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Player not found with id: " + id);
+        }
+        Player player = playerRepository.getReferenceById(id);
+        player.setName(playerDetails.getName());
+        // Player names are part of the standings, so their tournaments change too
+        tournamentRepository.incrementRevisionsByPlayerId(id);
+        return playerRepository.save(player);
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package org.example.service;
+
+import lombok.Value;
+import org.example.dto.PlayerRatingDTO;
+import org.example.event.RatingsChangedEvent;
+import org.example.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory copy of all player ratings: a map for point lookups and a skip list ordered by rating for top-N
+ * queries, both readable without locking. It is refreshed from the database after every committed rating
+ * change rather than fed the computed values, so concurrent writers committing in any order still leave
+ * the index equal to the stored ratings.
+ */
+@Component
+public class RatingIndex {
+    private static final Comparator<RatingEntry> BY_RATING_DESC =
+            Comparator.comparingDouble(RatingEntry::getRating).reversed().thenComparingLong(RatingEntry::getPlayerId);
+
+    private final PlayerRepository playerRepository;
+    private final Map<Long, Double> ratings = new ConcurrentHashMap<>();
+    private final NavigableSet<RatingEntry> ranking = new ConcurrentSkipListSet<>(BY_RATING_DESC);
+
+    @Autowired
+    public RatingIndex(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        ratings.clear();
+        ranking.clear();
+        for (PlayerRatingDTO rating : playerRepository.findAllRatings()) {
+            put(rating.getPlayerId(), rating.getRating());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRatingsChanged(RatingsChangedEvent event) {
+        refresh(event.getPlayerIds());
+    }
+
+    /**
+     * Reloads the given players; players that no longer exist are dropped. Serialized so that the last
+     * refresh to run always applies the latest committed values.
+     */
+    public synchronized void refresh(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(playerIds);
+        for (PlayerRatingDTO rating : playerRepository.findRatings(playerIds)) {
+            put(rating.getPlayerId(), rating.getRating());
+            missing.remove(rating.getPlayerId());
+        }
+        for (Long playerId : missing) {
+            Double previous = ratings.remove(playerId);
+            if (previous != null) {
+                ranking.remove(new RatingEntry(playerId, previous));
+            }
+        }
+    }
+
+    public Optional<Double> getRating(Long playerId) {
+        return Optional.ofNullable(ratings.get(playerId));
+    }
+
+    /**
+     * Returns up to {@code limit} player ids with their ratings, best first.
+     */
+    public Map<Long, Double> top(int limit) {
+        Map<Long, Double> result = new LinkedHashMap<>();
+        Iterator<RatingEntry> iterator = ranking.iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            RatingEntry entry = iterator.next();
+            result.put(entry.getPlayerId(), entry.getRating());
+        }
+        return result;
+    }
+
+    public int size() {
+        return ratings.size();
+    }
+
+    private void put(Long playerId, double rating) {
+        Double previous = ratings.put(playerId, rating);
+        if (previous != null) {
+            ranking.remove(new RatingEntry(playerId, previous));
+        }
+        ranking.add(new RatingEntry(playerId, rating));
+    }
+
+    @Value
+    private static class RatingEntry {
+        long playerId;
+        double rating;
+    }
+}
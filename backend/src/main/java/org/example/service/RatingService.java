@@ -0,0 +1,329 @@
+package org.example.service;
+
+import jakarta.transaction.Transactional;
+import org.example.dto.PlayerRatingDTO;
+import org.example.dto.RatingRecomputeResultDTO;
+import org.example.event.RatingsChangedEvent;
+import org.example.exception.ConcurrentUpdateException;
+import org.example.model.Game;
+import org.example.model.Player;
+import org.example.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Elo ratings of players across all tournaments.
+ * <p>
+ * Results are rated incrementally as they are recorded: the previous rating change of the game, if any, is
+ * reverted and the new result is rated against the players' current ratings. Since Elo depends on the order of
+ * results, corrections make incremental ratings drift from a replay of history; {@link #recomputeAll()} replays
+ * every result in {@code createdAt} order. Tournaments that share no players cannot influence each other's
+ * ratings, so the replay splits them into independent groups and rates those in parallel on a fork/join pool.
+ */
+@Service
+public class RatingService {
+    private static final Logger log = LoggerFactory.getLogger(RatingService.class);
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final String COMPONENT_GAMES_SQL =
+            "select id, player1_id, player2_id, score1, score2 from games " +
+            "where tournament_id in (:tournamentIds) and score1 is not null and score2 is not null " +
+            "and player1_id is not null and player2_id is not null " +
+            "order by created_at, id";
+
+    private final PlayerRepository playerRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RatingIndex ratingIndex;
+    private final double kFactor;
+    private final int parallelism;
+    private final AtomicBoolean recomputing = new AtomicBoolean();
+
+    @Autowired
+    public RatingService(PlayerRepository playerRepository,
+                         JdbcTemplate jdbcTemplate,
+                         NamedParameterJdbcTemplate namedJdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         ApplicationEventPublisher eventPublisher,
+                         RatingIndex ratingIndex,
+                         @Value("${app.ratings.k-factor:32}") double kFactor,
+                         @Value("${app.ratings.recompute-parallelism:0}") int parallelism) {
+        this.playerRepository = playerRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.ratingIndex = ratingIndex;
+        this.kFactor = kFactor;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Rating change of player 1 for a result; player 2 changes by the opposite amount.
+     */
+    static double ratingDelta(double rating1, double rating2, int score1, int score2, double kFactor) {
+        double expected = 1 / (1 + Math.pow(10, (rating2 - rating1) / 400));
+        double actual = score1 > score2 ? 1 : score1 == score2 ? 0.5 : 0;
+        return kFactor * (actual - expected);
+    }
+
+    /**
+     * Re-rates games whose scores changed, in the given order. Must run in the transaction that changed
+     * them; their {@code ratingDelta} is updated along with the scores.
+     */
+    @Transactional
+    public void recordResults(List<Game> games) {
+        updateRatings(games, true);
+    }
+
+    /**
+     * Reverts the rating changes of games that are about to be deleted.
+     */
+    @Transactional
+    public void revertResults(List<Game> games) {
+        updateRatings(games, false);
+    }
+
+    public Optional<PlayerRatingDTO> getRating(Long playerId) {
+        Optional<Double> rating = ratingIndex.getRating(playerId);
+        if (rating.isEmpty()) {
+            return playerRepository.findRatings(List.of(playerId)).stream().findFirst();
+        }
+        return playerRepository.findById(playerId)
+                .map(player -> new PlayerRatingDTO(playerId, player.getName(), rating.get()));
+    }
+
+    /**
+     * Best rated players, served from the in-memory index.
+     */
+    public List<PlayerRatingDTO> getTopRated(int limit) {
+        Map<Long, Double> top = ratingIndex.top(limit);
+        Map<Long, String> names = new HashMap<>();
+        for (Player player : playerRepository.findAllById(top.keySet())) {
+            names.put(player.getId(), player.getName());
+        }
+        List<PlayerRatingDTO> result = new ArrayList<>(top.size());
+        top.forEach((playerId, rating) -> {
+            if (names.containsKey(playerId)) {
+                result.add(new PlayerRatingDTO(playerId, names.get(playerId), rating));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Replays all results to rebuild every rating and every game's rating change from scratch.
+     * Rating changes recorded while the replay runs may be overwritten by it.
+     */
+    public RatingRecomputeResultDTO recomputeAll() {
+        if (!recomputing.compareAndSet(false, true)) {
+            throw new ConcurrentUpdateException("A rating recompute is already running");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<List<Long>> components = findIndependentTournaments();
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.update("update players set rating = ?", Player.INITIAL_RATING));
+
+            AtomicLong games = new AtomicLong();
+            AtomicLong players = new AtomicLong();
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new ComponentReplay(components, 0, components.size(), games, players));
+            } finally {
+                pool.shutdown();
+            }
+            ratingIndex.reload();
+            long duration = System.currentTimeMillis() - start;
+            log.info("Recomputed ratings of {} games in {} independent groups in {} ms",
+                    games.get(), components.size(), duration);
+            return new RatingRecomputeResultDTO(components.size(), games.get(), (int) players.get(), duration);
+        } finally {
+            recomputing.set(false);
+        }
+    }
+
+    private void updateRatings(List<Game> games, boolean rateNewResults) {
+        // Unrated games without a new result leave the ratings alone, so they cost no statements
+        List<Game> affected = new ArrayList<>(games.size());
+        Set<Long> playerIds = new HashSet<>();
+        for (Game game : games) {
+            if (hasBothPlayers(game) && (game.getRatingDelta() != null || rateNewResults && hasResult(game))) {
+                affected.add(game);
+                playerIds.add(game.getPlayer1().getId());
+                playerIds.add(game.getPlayer2().getId());
+            }
+        }
+        if (affected.isEmpty()) {
+            return;
+        }
+        Map<Long, Double> ratings = new HashMap<>();
+        for (PlayerRatingDTO rating : playerRepository.findRatings(playerIds)) {
+            ratings.put(rating.getPlayerId(), rating.getRating());
+        }
+        Map<Long, Double> changes = new HashMap<>();
+        for (Game game : affected) {
+            Long player1Id = game.getPlayer1().getId();
+            Long player2Id = game.getPlayer2().getId();
+            double delta = -(game.getRatingDelta() != null ? game.getRatingDelta() : 0);
+            Double newDelta = null;
+            if (rateNewResults && hasResult(game)) {
+                newDelta = ratingDelta(ratings.get(player1Id) + delta, ratings.get(player2Id) - delta,
+                        game.getScore1(), game.getScore2(), kFactor);
+                delta += newDelta;
+            }
+            game.setRatingDelta(newDelta);
+            ratings.merge(player1Id, delta, Double::sum);
+            ratings.merge(player2Id, -delta, Double::sum);
+            changes.merge(player1Id, delta, Double::sum);
+            changes.merge(player2Id, -delta, Double::sum);
+        }
+        changes.values().removeIf(change -> change == 0);
+        changes.forEach(playerRepository::addToRating);
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new RatingsChangedEvent(changes.keySet()));
+        }
+    }
+
+    private static boolean hasBothPlayers(Game game) {
+        return game.getPlayer1() != null && game.getPlayer2() != null;
+    }
+
+    private static boolean hasResult(Game game) {
+        return game.getScore1() != null && game.getScore2() != null;
+    }
+
+    /**
+     * Groups tournaments into connected components of the "shares a participant" relation with union-find.
+     */
+    private List<List<Long>> findIndependentTournaments() {
+        Map<Long, Integer> tournamentIndex = new HashMap<>();
+        List<Long> tournamentIds = new ArrayList<>();
+        Map<Long, Integer> firstTournamentOfPlayer = new HashMap<>();
+        int[][] parent = {new int[64]};
+        jdbcTemplate.query("select tournament_id, player_id from player_tournament", (RowCallbackHandler) rs -> {
+            long tournamentId = rs.getLong(1);
+            long playerId = rs.getLong(2);
+            Integer index = tournamentIndex.get(tournamentId);
+            if (index == null) {
+                index = tournamentIds.size();
+                tournamentIndex.put(tournamentId, index);
+                tournamentIds.add(tournamentId);
+                if (index == parent[0].length) {
+                    parent[0] = Arrays.copyOf(parent[0], index * 2);
+                }
+                parent[0][index] = index;
+            }
+            Integer other = firstTournamentOfPlayer.putIfAbsent(playerId, index);
+            if (other != null) {
+                union(parent[0], index, other);
+            }
+        });
+
+        Map<Integer, List<Long>> components = new LinkedHashMap<>();
+        for (int i = 0; i < tournamentIds.size(); i++) {
+            components.computeIfAbsent(find(parent[0], i), root -> new ArrayList<>()).add(tournamentIds.get(i));
+        }
+        return new ArrayList<>(components.values());
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    /**
+     * Replays one group of tournaments in its own transaction, streaming its results in {@code createdAt} order
+     * and writing the games' rating changes in batches as it goes.
+     */
+    private void replayComponent(List<Long> tournamentIds, AtomicLong gameCount, AtomicLong playerCount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            MapSqlParameterSource parameters = new MapSqlParameterSource("tournamentIds", tournamentIds);
+            namedJdbcTemplate.update(
+                    "update games set rating_delta = null where tournament_id in (:tournamentIds)", parameters);
+
+            Map<Long, double[]> ratings = new HashMap<>();
+            List<Object[]> pending = new ArrayList<>(WRITE_BATCH_SIZE);
+            namedJdbcTemplate.query(COMPONENT_GAMES_SQL, parameters, (RowCallbackHandler) rs -> {
+                double[] rating1 = ratings.computeIfAbsent(rs.getLong(2), id -> new double[]{Player.INITIAL_RATING});
+                double[] rating2 = ratings.computeIfAbsent(rs.getLong(3), id -> new double[]{Player.INITIAL_RATING});
+                double delta = ratingDelta(rating1[0], rating2[0], rs.getInt(4), rs.getInt(5), kFactor);
+                rating1[0] += delta;
+                rating2[0] -= delta;
+                pending.add(new Object[]{delta, rs.getLong(1)});
+                if (pending.size() == WRITE_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate("update games set rating_delta = ? where id = ?", pending);
+                    gameCount.addAndGet(pending.size());
+                    pending.clear();
+                }
+            });
+            if (!pending.isEmpty()) {
+                jdbcTemplate.batchUpdate("update games set rating_delta = ? where id = ?", pending);
+                gameCount.addAndGet(pending.size());
+            }
+
+            List<Object[]> playerRatings = new ArrayList<>(ratings.size());
+            ratings.forEach((playerId, rating) -> playerRatings.add(new Object[]{rating[0], playerId}));
+            jdbcTemplate.batchUpdate("update players set rating = ? where id = ?", playerRatings);
+            playerCount.addAndGet(playerRatings.size());
+        });
+    }
+
+    /**
+     * Splits the list of components in halves until a single one is left, then replays it.
+     */
+    private class ComponentReplay extends RecursiveAction {
+        private final List<List<Long>> components;
+        private final int from;
+        private final int to;
+        private final AtomicLong gameCount;
+        private final AtomicLong playerCount;
+
+        ComponentReplay(List<List<Long>> components, int from, int to, AtomicLong gameCount, AtomicLong playerCount) {
+            this.components = components;
+            this.from = from;
+            this.to = to;
+            this.gameCount = gameCount;
+            this.playerCount = playerCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                replayComponent(components.get(from), gameCount, playerCount);
+            } else if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ComponentReplay(components, from, middle, gameCount, playerCount),
+                        new ComponentReplay(components, middle, to, gameCount, playerCount));
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.example.dto.GameDTO;
+import org.example.dto.GameScoreEntryDTO;
+import org.example.exception.ResourceNotFoundException;
+import org.example.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Optional write-behind for unconditional score updates ({@code app.scores.write-behind.enabled}). An update
+ * only replaces the game's slot in memory, so any number of updates to a game between two flushes cost one write.
+ * Slots are flushed through the bulk score path, one transaction per batch, every
+ * {@code flush-interval-ms} or as soon as {@code max-pending} games are waiting, and drained on shutdown.
+ * <p>
+ * A slot is removed only after its value has been written, and only if no newer value replaced it meanwhile,
+ * so game reads that {@link #overlay} the buffer always see the latest accepted score. Standings, stats, ratings
+ * and live events follow when the slot is flushed.
+ * <p>
+ * Synchronous writes to a game go through {@link #flush(Collection)} first and deleted games are
+ * {@link #discard}ed, so a slot accepted before a conditional, bulk or delete write is never written over it.
+ */
+@Component
+public class ScoreWriteBuffer {
+    private static final Logger log = LoggerFactory.getLogger(ScoreWriteBuffer.class);
+
+    private final GameService gameService;
+    private final GameRepository gameRepository;
+    private final Executor flushExecutor;
+    private final boolean enabled;
+    private final int maxPending;
+    private final int batchSize;
+    private final Map<Long, PendingScore> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> tournamentSequences = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter acceptedUpdates;
+    private final Counter writtenUpdates;
+    private volatile boolean closing;
+
+    @Autowired
+    public ScoreWriteBuffer(GameService gameService,
+                            GameRepository gameRepository,
+                            @Qualifier("applicationTaskExecutor") Executor flushExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.scores.write-behind.enabled:false}") boolean enabled,
+                            @Value("${app.scores.write-behind.max-pending:1000}") int maxPending,
+                            @Value("${app.scores.write-behind.batch-size:500}") int batchSize) {
+        this.gameService = gameService;
+        this.gameRepository = gameRepository;
+        this.flushExecutor = flushExecutor;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.acceptedUpdates = Counter.builder("scores.write.behind.accepted")
+                .description("Score updates accepted into the write-behind buffer")
+                .register(meterRegistry);
+        this.writtenUpdates = Counter.builder("scores.write.behind.written")
+                .description("Coalesced score updates written to the database")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffers the scores of a game, replacing any pending ones. Returns {@code false} if write-behind is off or
+     * shutting down, in which case the caller must write synchronously.
+     *
+     * @throws ResourceNotFoundException if the game does not exist
+     */
+    public boolean offer(Long gameId, Integer score1, Integer score2) {
+        if (!enabled || closing) {
+            return false;
+        }
+        PendingScore previous = pending.get(gameId);
+        Long tournamentId = previous != null ? previous.getTournamentId()
+                : gameRepository.findTournamentIdById(gameId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Game not found with id: " + gameId));
+        pending.put(gameId, new PendingScore(tournamentId, score1, score2));
+        tournamentSequences.put(tournamentId, sequence.incrementAndGet());
+        acceptedUpdates.increment();
+        if (pending.size() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * Applies the pending scores of a game, if any, to a row read from the database.
+     */
+    public GameDTO overlay(GameDTO game) {
+        if (!pending.isEmpty()) {
+            PendingScore score = pending.get(game.getId());
+            if (score != null) {
+                game.setScore1(score.getScore1());
+                game.setScore2(score.getScore2());
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Sequence of the last update buffered for a tournament, 0 if none; part of its ETag so that conditional
+     * reads notice buffered scores before they are flushed.
+     */
+    public long getSequence(Long tournamentId) {
+        return tournamentSequences.getOrDefault(tournamentId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${app.scores.write-behind.flush-interval-ms:250}")
+    public void scheduledFlush() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes every pending slot, in batches of {@code batch-size} games per transaction.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            List<Map.Entry<Long, PendingScore>> batch = new ArrayList<>(batchSize);
+            for (Map.Entry<Long, PendingScore> entry : pending.entrySet()) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the pending scores of the given games, if any, ahead of a synchronous write to them. Must be called
+     * outside any transaction. Slots are only written under the flush lock, so once this returns no score buffered
+     * before the call can land on top of the caller's write.
+     */
+    public void flush(Collection<Long> gameIds) {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            List<Map.Entry<Long, PendingScore>> batch = new ArrayList<>();
+            for (Long gameId : gameIds) {
+                PendingScore score = pending.get(gameId);
+                if (score != null) {
+                    batch.add(Map.entry(gameId, score));
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                // A slot kept after losing a race would otherwise be written over the caller's update later
+                batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the pending scores of a deleted game.
+     */
+    public void discard(Long gameId) {
+        pending.remove(gameId);
+    }
+
+    @PreDestroy
+    public void drain() {
+        closing = true;
+        if (enabled) {
+            flush();
+            if (!pending.isEmpty()) {
+                log.warn("{} buffered score updates could not be written on shutdown", pending.size());
+            }
+        }
+    }
+
+    private void write(List<Map.Entry<Long, PendingScore>> batch) {
+        List<GameScoreEntryDTO> scores = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, PendingScore> entry : batch) {
+            GameScoreEntryDTO score = new GameScoreEntryDTO();
+            score.setGameId(entry.getKey());
+            score.setScore1(entry.getValue().getScore1());
+            score.setScore2(entry.getValue().getScore2());
+            scores.add(score);
+        }
+        try {
+            gameService.updateGameScores(scores);
+            batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+            writtenUpdates.increment(batch.size());
+        } catch (RuntimeException batchFailure) {
+            // One deleted or concurrently updated game fails the whole batch; retry the games one by one
+            for (Map.Entry<Long, PendingScore> entry : batch) {
+                writeOne(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void writeOne(Long gameId, PendingScore score) {
+        try {
+            gameService.updateGameScore(gameId, score.getScore1(), score.getScore2(), null);
+            pending.remove(gameId, score);
+            writtenUpdates.increment();
+        } catch (OptimisticLockingFailureException e) {
+            // Lost a race with a synchronous writer; keep the slot for the next flush
+            log.debug("Buffered score of game {} lost a race, retrying on next flush", gameId);
+        } catch (RuntimeException e) {
+            pending.remove(gameId, score);
+            log.warn("Dropping buffered score {}:{} of game {}: {}", score.getScore1(), score.getScore2(), gameId,
+                    e.getMessage());
+        }
+    }
+
+    @lombok.Value
+    private static class PendingScore {
+        Long tournamentId;
+        Integer score1;
+        Integer score2;
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.service;
+
+import org.example.model.PlayerTournamentId;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Accumulates standings changes per player and tournament so that several game results
+ * can be applied to the materialized standings with one update per affected row.
+ */
+public class StandingsDelta {
+    static final int GAMES_PLAYED = 0;
+    static final int WINS = 1;
+    static final int DRAWS = 2;
+    static final int LOSSES = 3;
+    static final int GOALS_FOR = 4;
+    static final int GOALS_AGAINST = 5;
+
+    private final Map<PlayerTournamentId, int[]> changes = new LinkedHashMap<>();
+
+    /**
+     * Adds ({@code sign = 1}) or reverts ({@code sign = -1}) a result. Incomplete results are ignored.
+     */
+    public void addResult(Long tournamentId, Long player1Id, Long player2Id,
+                          Integer score1, Integer score2, int sign) {
+        if (score1 == null || score2 == null) {
+            return;
+        }
+        addPlayerResult(tournamentId, player1Id, score1, score2, sign);
+        addPlayerResult(tournamentId, player2Id, score2, score1, sign);
+    }
+
+    private void addPlayerResult(Long tournamentId, Long playerId, int goalsFor, int goalsAgainst, int sign) {
+        if (playerId == null) {
+            return;
+        }
+        int[] counters = changes.computeIfAbsent(new PlayerTournamentId(playerId, tournamentId), k -> new int[6]);
+        counters[GAMES_PLAYED] += sign;
+        counters[GOALS_FOR] += sign * goalsFor;
+        counters[GOALS_AGAINST] += sign * goalsAgainst;
+
+        if (goalsFor > goalsAgainst) {
+            counters[WINS] += sign;
+        } else if (goalsFor == goalsAgainst) {
+            counters[DRAWS] += sign;
+        } else {
+            counters[LOSSES] += sign;
+        }
+    }
+
+    public boolean isEmpty() {
+        return changes.values().stream().allMatch(StandingsDelta::isZero);
+    }
+
+    Map<PlayerTournamentId, int[]> getChanges() {
+        return changes;
+    }
+
+    static boolean isZero(int[] counters) {
+        for (int counter : counters) {
+            if (counter != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
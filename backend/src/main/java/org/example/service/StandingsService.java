@@ -0,0 +1,144 @@
+package org.example.service;
+
+import jakarta.transaction.Transactional;
+import org.example.config.CacheConfig;
+import org.example.event.StandingsChangedEvent;
+import org.example.model.Game;
+import org.example.model.Player;
+import org.example.model.PlayerTournament;
+import org.example.model.PlayerTournamentId;
+import org.example.repository.PlayerRepository;
+import org.example.repository.PlayerTournamentRepository;
+import org.example.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Keeps the materialized {@link PlayerTournament} standings in sync with game writes.
+ */
+@Service
+public class StandingsService {
+    private final PlayerTournamentRepository playerTournamentRepository;
+    private final PlayerRepository playerRepository;
+    private final TournamentRepository tournamentRepository;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public StandingsService(PlayerTournamentRepository playerTournamentRepository,
+                            PlayerRepository playerRepository,
+                            TournamentRepository tournamentRepository,
+                            CacheManager cacheManager,
+                            ApplicationEventPublisher eventPublisher) {
+        this.playerTournamentRepository = playerTournamentRepository;
+        this.playerRepository = playerRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Registers the players of a new game. Also called for every game creation so the cached stats,
+     * whose game counts just changed, are evicted.
+     */
+    @Transactional
+    public void registerParticipants(Long tournamentId, Collection<Long> playerIds) {
+        evictStats(tournamentId);
+        Set<Long> missing = new LinkedHashSet<>(playerIds);
+        missing.remove(null);
+        if (missing.isEmpty()) {
+            return;
+        }
+        missing.removeAll(playerTournamentRepository.findParticipantIds(tournamentId, missing));
+        for (Long playerId : missing) {
+            playerTournamentRepository.save(newRow(tournamentId, playerId));
+        }
+        if (!missing.isEmpty()) {
+            eventPublisher.publishEvent(new StandingsChangedEvent(tournamentId, missing));
+        }
+    }
+
+    @Transactional
+    public void recordScoreChange(Game game, Integer previousScore1, Integer previousScore2) {
+        StandingsDelta delta = new StandingsDelta();
+        addScoreChange(delta, game, previousScore1, previousScore2);
+        apply(delta);
+    }
+
+    @Transactional
+    public void recordGameRemoved(Game game) {
+        evictStats(game.getTournament().getId());
+        StandingsDelta delta = new StandingsDelta();
+        delta.addResult(game.getTournament().getId(), playerId(game.getPlayer1()), playerId(game.getPlayer2()),
+                game.getScore1(), game.getScore2(), -1);
+        apply(delta);
+    }
+
+    /**
+     * Adds the transition of a game from its previous scores to its current scores to the delta.
+     */
+    public void addScoreChange(StandingsDelta delta, Game game, Integer previousScore1, Integer previousScore2) {
+        Long tournamentId = game.getTournament().getId();
+        Long player1Id = playerId(game.getPlayer1());
+        Long player2Id = playerId(game.getPlayer2());
+        delta.addResult(tournamentId, player1Id, player2Id, previousScore1, previousScore2, -1);
+        delta.addResult(tournamentId, player1Id, player2Id, game.getScore1(), game.getScore2(), 1);
+    }
+
+    @Transactional
+    public void apply(StandingsDelta delta) {
+        Map<Long, Set<Long>> changedPlayers = new HashMap<>();
+        for (Map.Entry<PlayerTournamentId, int[]> entry : delta.getChanges().entrySet()) {
+            int[] counters = entry.getValue();
+            if (StandingsDelta.isZero(counters)) {
+                continue;
+            }
+            PlayerTournamentId id = entry.getKey();
+            evictStats(id.getTournament());
+            changedPlayers.computeIfAbsent(id.getTournament(), tournamentId -> new HashSet<>()).add(id.getPlayer());
+            int updated = playerTournamentRepository.applyDelta(id.getTournament(), id.getPlayer(),
+                    counters[StandingsDelta.GAMES_PLAYED],
+                    counters[StandingsDelta.WINS],
+                    counters[StandingsDelta.DRAWS],
+                    counters[StandingsDelta.LOSSES],
+                    counters[StandingsDelta.GOALS_FOR],
+                    counters[StandingsDelta.GOALS_AGAINST]);
+            if (updated == 0) {
+                // Row was never registered; create it with the delta as its initial value
+                PlayerTournament row = newRow(id.getTournament(), id.getPlayer());
+                row.setGamesPlayed(counters[StandingsDelta.GAMES_PLAYED]);
+                row.setWins(counters[StandingsDelta.WINS]);
+                row.setDraws(counters[StandingsDelta.DRAWS]);
+                row.setLosses(counters[StandingsDelta.LOSSES]);
+                row.setGoalsFor(counters[StandingsDelta.GOALS_FOR]);
+                row.setGoalsAgainst(counters[StandingsDelta.GOALS_AGAINST]);
+                playerTournamentRepository.save(row);
+            }
+        }
+        changedPlayers.forEach((tournamentId, playerIds) ->
+                eventPublisher.publishEvent(new StandingsChangedEvent(tournamentId, playerIds)));
+    }
+
+    private void evictStats(Long tournamentId) {
+        Cache cache = cacheManager.getCache(CacheConfig.TOURNAMENT_STATS);
+        if (cache != null) {
+            cache.evict(tournamentId);
+        }
+    }
+
+    private PlayerTournament newRow(Long tournamentId, Long playerId) {
+        PlayerTournament row = new PlayerTournament();
+        row.setPlayer(playerRepository.getReferenceById(playerId));
+        row.setTournament(tournamentRepository.getReferenceById(tournamentId));
+        return row;
+    }
+
+    private static Long playerId(Player player) {
+        return player != null ? player.getId() : null;
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.service;
+
+import org.example.dto.TournamentStatsDTO;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Allocation-free standings accumulator. Player ids are mapped to dense slots by an open-addressing hash table
+ * and the counters are kept in one primitive array per column, so adding a game touches a few array cells and
+ * the memory used grows with the number of players, never with the number of games.
+ * Not thread-safe.
+ */
+public class StatsAccumulator {
+    /**
+     * Player id meaning "no player"; matches what JDBC returns for a {@code NULL} id column.
+     */
+    public static final long NO_PLAYER = 0L;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] keys;
+    private int[] slots;
+    private int mask;
+
+    private long[] playerIds;
+    private int[] gamesPlayed;
+    private int[] wins;
+    private int[] draws;
+    private int[] losses;
+    private int[] goalsFor;
+    private int[] goalsAgainst;
+    private int size;
+
+    public StatsAccumulator() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StatsAccumulator(int expectedPlayers) {
+        int tableSize = Integer.highestOneBit(Math.max(expectedPlayers, 8) * 2 - 1) << 1;
+        keys = new long[tableSize];
+        slots = new int[tableSize];
+        mask = tableSize - 1;
+        int columnSize = Math.max(expectedPlayers, 8);
+        playerIds = new long[columnSize];
+        gamesPlayed = new int[columnSize];
+        wins = new int[columnSize];
+        draws = new int[columnSize];
+        losses = new int[columnSize];
+        goalsFor = new int[columnSize];
+        goalsAgainst = new int[columnSize];
+    }
+
+    /**
+     * Adds a completed game.
+     */
+    public void addResult(long player1Id, long player2Id, int score1, int score2) {
+        addPlayerResult(player1Id, score1, score2, 1);
+        addPlayerResult(player2Id, score2, score1, 1);
+    }
+
+    /**
+     * Takes back a completed game added before, e.g. when replaying a correction or deletion.
+     */
+    public void removeResult(long player1Id, long player2Id, int score1, int score2) {
+        addPlayerResult(player1Id, score1, score2, -1);
+        addPlayerResult(player2Id, score2, score1, -1);
+    }
+
+    /**
+     * Registers a player without adding a result, e.g. for a game that has no score yet.
+     */
+    public void addParticipant(long playerId) {
+        if (playerId != NO_PLAYER) {
+            slotOf(playerId);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Materializes one {@link TournamentStatsDTO.PlayerStats} per player, in first-seen order. Names are not set.
+     */
+    public Map<Long, TournamentStatsDTO.PlayerStats> toPlayerStats() {
+        Map<Long, TournamentStatsDTO.PlayerStats> result = new LinkedHashMap<>(size * 2);
+        for (int slot = 0; slot < size; slot++) {
+            TournamentStatsDTO.PlayerStats stats = new TournamentStatsDTO.PlayerStats();
+            stats.setPlayerId(playerIds[slot]);
+            stats.setGamesPlayed(gamesPlayed[slot]);
+            stats.setWins(wins[slot]);
+            stats.setDraws(draws[slot]);
+            stats.setLosses(losses[slot]);
+            stats.setGoalsFor(goalsFor[slot]);
+            stats.setGoalsAgainst(goalsAgainst[slot]);
+            result.put(playerIds[slot], stats);
+        }
+        return result;
+    }
+
+    private void addPlayerResult(long playerId, int scored, int conceded, int sign) {
+        if (playerId == NO_PLAYER) {
+            return;
+        }
+        int slot = slotOf(playerId);
+        gamesPlayed[slot] += sign;
+        goalsFor[slot] += sign * scored;
+        goalsAgainst[slot] += sign * conceded;
+        if (scored > conceded) {
+            wins[slot] += sign;
+        } else if (scored == conceded) {
+            draws[slot] += sign;
+        } else {
+            losses[slot] += sign;
+        }
+    }
+
+    /**
+     * Returns the slot of a player, assigning the next free one on first sight. Empty table entries hold
+     * {@link #NO_PLAYER}, which is never a valid key.
+     */
+    private int slotOf(long playerId) {
+        int index = hash(playerId) & mask;
+        while (true) {
+            long key = keys[index];
+            if (key == playerId) {
+                return slots[index];
+            }
+            if (key == NO_PLAYER) {
+                return insert(index, playerId);
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int insert(int index, long playerId) {
+        if (size == playerIds.length) {
+            growColumns();
+        }
+        int slot = size++;
+        playerIds[slot] = playerId;
+        keys[index] = playerId;
+        slots[index] = slot;
+        if (size * 2 > keys.length) {
+            rehash();
+        }
+        return slot;
+    }
+
+    private void growColumns() {
+        int capacity = playerIds.length * 2;
+        playerIds = Arrays.copyOf(playerIds, capacity);
+        gamesPlayed = Arrays.copyOf(gamesPlayed, capacity);
+        wins = Arrays.copyOf(wins, capacity);
+        draws = Arrays.copyOf(draws, capacity);
+        losses = Arrays.copyOf(losses, capacity);
+        goalsFor = Arrays.copyOf(goalsFor, capacity);
+        goalsAgainst = Arrays.copyOf(goalsAgainst, capacity);
+    }
+
+    private void rehash() {
+        keys = new long[keys.length * 2];
+        slots = new int[keys.length];
+        mask = keys.length - 1;
+        for (int slot = 0; slot < size; slot++) {
+            int index = hash(playerIds[slot]) & mask;
+            while (keys[index] != NO_PLAYER) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = playerIds[slot];
+            slots[index] = slot;
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
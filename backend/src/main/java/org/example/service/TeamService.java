@@ -1,9 +1,16 @@
 package org.example.service;
 
 import jakarta.transaction.Transactional;
+import org.example.config.CacheConfig;
+import org.example.dto.TeamDTO;
+import org.example.exception.ResourceNotFoundException;
+import org.example.mapper.TeamMapper;
 import org.example.model.Team;
 import org.example.repository.TeamRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,21 +19,35 @@ import java.util.Optional;
 @Service
 public class TeamService {
     private final TeamRepository teamRepository;
+    private final TeamMapper teamMapper;
 
     @Autowired
-    public TeamService(TeamRepository teamRepository) {
+    public TeamService(TeamRepository teamRepository, TeamMapper teamMapper) {
         this.teamRepository = teamRepository;
+        this.teamMapper = teamMapper;
     }
 
     public List<Team> findAll() {
         return teamRepository.findAll();
     }
 
-    public Optional<Team> findById(Long id) {
-        return teamRepository.findById(id);
+    /**
+     * Returns up to {@code limit} teams with an id greater than {@code after}, ordered by id.
+     */
+    public List<Team> findPage(Long after, int limit) {
+        return teamRepository.findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L, Limit.of(limit));
+    }
+
+    /**
+     * Looks a team up, served from the teams cache.
+     */
+    @Cacheable(cacheNames = CacheConfig.TEAMS, key = "#id", unless = "#result == null")
+    public Optional<TeamDTO> findById(Long id) {
+        return teamRepository.findById(id).map(teamMapper::toDTO);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#result.id")
     public Team save(Team team) {
         if (teamRepository.existsByName(team.getName())) {
             throw new IllegalStateException("Team with name " + team.getName() + " already exists");
@@ -35,18 +56,22 @@ public class TeamService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#id")
     public void delete(Long id) {
         teamRepository.deleteById(id);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#id")
     public Team update(Long id, Team teamDetails) {
-        return teamRepository.findById(id).map(team -> {
-            if (!team.getName().equals(teamDetails.getName()) && teamRepository.existsByName(teamDetails.getName())) {
-                throw new IllegalStateException("Team with name " + teamDetails.getName() + " already exists");
-            }
-            team.setName(teamDetails.getName());
-            return teamRepository.save(team);
-        }).orElseThrow(() -> new RuntimeException("Team not found with id: " + id));
+        if (!teamRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Team not found with id: " + id);
+        }
+        Team team = teamRepository.getReferenceById(id);
+        if (!team.getName().equals(teamDetails.getName()) && teamRepository.existsByName(teamDetails.getName())) {
+            throw new IllegalStateException("Team with name " + teamDetails.getName() + " already exists");
+        }
+        team.setName(teamDetails.getName());
+        return teamRepository.save(team);
     }
 }
\ No newline at end of file
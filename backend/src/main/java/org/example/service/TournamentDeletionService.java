@@ -0,0 +1,226 @@
+package org.example.service;
+
+import org.example.config.CacheConfig;
+import org.example.dto.TournamentDeletionDTO;
+import org.example.dto.TournamentDeletionDTO.Status;
+import org.example.exception.ResourceNotFoundException;
+import org.example.model.Game;
+import org.example.model.Player;
+import org.example.repository.TournamentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * Deletes tournaments in the background. Cascading the delete through the entity would load every game and
+ * standings row into the persistence context and remove them one by one in a single transaction; instead the
+ * games and then the standings are removed with set-based deletes of at most
+ * {@code app.tournaments.delete-chunk-size} rows, each in its own short transaction, walking the
+ * {@code (tournament_id, id)} index. Only the rows being deleted are locked, so reads and writes of other
+ * tournaments carry on meanwhile. The tournament row itself is deleted last through
+ * {@link TournamentService#delete}, which evicts its caches and drops its in-memory indexes.
+ * <p>
+ * Deleted games must not keep counting towards the players' ratings. Before each chunk of games is deleted, the
+ * rating changes they recorded ({@code rating_delta}) are read and reverted through
+ * {@link RatingService#revertResults} in the same transaction, as deleting a single game does; the rating index
+ * reloads the affected players after commit. A {@link RatingService#recomputeAll()} at the end was not chosen:
+ * it rewrites every player's rating, fails while another recompute runs, and would leave ratings including the
+ * deleted games visible for the whole job and after a failed one.
+ * <p>
+ * A failed job leaves the chunks deleted so far deleted; deleting the tournament again resumes where it stopped.
+ */
+@Service
+public class TournamentDeletionService {
+    private static final Logger log = LoggerFactory.getLogger(TournamentDeletionService.class);
+    private static final int MAX_JOBS = 100;
+    private static final String GAMES_CHUNK_BOUND_SQL =
+            "select max(id) from (select id from games where tournament_id = ? " +
+            "order by id fetch first ? rows only) chunk";
+    private static final String DELETE_GAMES_SQL = "delete from games where tournament_id = ? and id <= ?";
+    private static final String RATED_GAMES_SQL =
+            "select id, player1_id, player2_id, rating_delta from games " +
+            "where tournament_id = ? and id <= ? and rating_delta is not null";
+    private static final String STANDINGS_CHUNK_BOUND_SQL =
+            "select max(player_id) from (select player_id from player_tournament where tournament_id = ? " +
+            "order by player_id fetch first ? rows only) chunk";
+    private static final String DELETE_STANDINGS_SQL =
+            "delete from player_tournament where tournament_id = ? and player_id <= ?";
+
+    private final TournamentService tournamentService;
+    private final TournamentRepository tournamentRepository;
+    private final RatingService ratingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache statsCache;
+    private final Executor executor;
+    private final int chunkSize;
+    private final Map<Long, DeletionJob> jobs;
+
+    @Autowired
+    public TournamentDeletionService(TournamentService tournamentService,
+                                     TournamentRepository tournamentRepository,
+                                     RatingService ratingService,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     CacheManager cacheManager,
+                                     @Qualifier("applicationTaskExecutor") Executor executor,
+                                     @Value("${app.tournaments.delete-chunk-size:10000}") int chunkSize) {
+        this.tournamentService = tournamentService;
+        this.tournamentRepository = tournamentRepository;
+        this.ratingService = ratingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statsCache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.TOURNAMENT_STATS));
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        // Keeps the status of the most recent jobs; running jobs are never evicted
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, DeletionJob> eldest) {
+                return size() > MAX_JOBS && eldest.getValue().status != Status.RUNNING;
+            }
+        });
+    }
+
+    /**
+     * Starts deleting a tournament and returns the job's status. If the tournament is already being deleted,
+     * the running job is returned instead of starting another one.
+     *
+     * @throws ResourceNotFoundException if the tournament does not exist
+     */
+    public TournamentDeletionDTO startDeletion(Long tournamentId) {
+        synchronized (jobs) {
+            DeletionJob running = jobs.get(tournamentId);
+            if (running != null && running.status == Status.RUNNING) {
+                return running.toDTO();
+            }
+            if (!tournamentRepository.existsById(tournamentId)) {
+                throw new ResourceNotFoundException("Tournament not found with id: " + tournamentId);
+            }
+            DeletionJob job = new DeletionJob(tournamentId);
+            jobs.remove(tournamentId);
+            jobs.put(tournamentId, job);
+            executor.execute(() -> run(job));
+            return job.toDTO();
+        }
+    }
+
+    /**
+     * Status of the latest deletion of a tournament, empty if none is known.
+     */
+    public Optional<TournamentDeletionDTO> getStatus(Long tournamentId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(tournamentId)).map(DeletionJob::toDTO);
+        }
+    }
+
+    private void run(DeletionJob job) {
+        Long tournamentId = job.tournamentId;
+        try {
+            int deleted;
+            while ((deleted = deleteChunk(tournamentId, GAMES_CHUNK_BOUND_SQL, DELETE_GAMES_SQL,
+                    this::revertRatings)) > 0) {
+                job.gamesDeleted += deleted;
+            }
+            while ((deleted = deleteChunk(tournamentId, STANDINGS_CHUNK_BOUND_SQL, DELETE_STANDINGS_SQL,
+                    (id, bound) -> { })) > 0) {
+                job.standingsDeleted += deleted;
+            }
+            tournamentService.delete(tournamentId);
+            job.finish(Status.COMPLETED, null);
+            log.info("Deleted tournament {} with {} games and {} standings rows", tournamentId,
+                    job.gamesDeleted, job.standingsDeleted);
+        } catch (RuntimeException e) {
+            job.finish(Status.FAILED, e.getMessage());
+            log.error("Deleting tournament {} failed after {} games", tournamentId, job.gamesDeleted, e);
+        }
+    }
+
+    /**
+     * Deletes the next chunk of rows of a tournament in one transaction and returns how many were deleted.
+     * {@code beforeDelete} runs in that transaction with the tournament id and the chunk's upper bound.
+     * The revision is bumped so that conditional reads of the shrinking tournament do not answer 304.
+     */
+    private int deleteChunk(Long tournamentId, String boundSql, String deleteSql,
+                            BiConsumer<Long, Long> beforeDelete) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            Long bound = jdbcTemplate.queryForObject(boundSql, Long.class, tournamentId, chunkSize);
+            if (bound == null) {
+                return 0;
+            }
+            beforeDelete.accept(tournamentId, bound);
+            int count = jdbcTemplate.update(deleteSql, tournamentId, bound);
+            tournamentRepository.incrementRevisions(List.of(tournamentId));
+            statsCache.evict(tournamentId);
+            return count;
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    /**
+     * Reverts the rating changes of the rated games up to {@code bound}. Only the ids and the recorded change are
+     * read; the games are never loaded as entities.
+     */
+    private void revertRatings(Long tournamentId, Long bound) {
+        List<Game> rated = jdbcTemplate.query(RATED_GAMES_SQL, (rs, rowNum) -> {
+            Game game = new Game();
+            game.setId(rs.getLong(1));
+            game.setPlayer1(player(rs.getLong(2)));
+            game.setPlayer2(player(rs.getLong(3)));
+            game.setRatingDelta(rs.getDouble(4));
+            return game;
+        }, tournamentId, bound);
+        if (!rated.isEmpty()) {
+            ratingService.revertResults(rated);
+        }
+    }
+
+    private static Player player(long id) {
+        Player player = new Player();
+        player.setId(id);
+        return player;
+    }
+
+    private static final class DeletionJob {
+        private final Long tournamentId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile Status status = Status.RUNNING;
+        private volatile long gamesDeleted;
+        private volatile long standingsDeleted;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private DeletionJob(Long tournamentId) {
+            this.tournamentId = tournamentId;
+        }
+
+        private void finish(Status status, String error) {
+            this.finishedAt = LocalDateTime.now();
+            this.error = error;
+            this.status = status;
+        }
+
+        private TournamentDeletionDTO toDTO() {
+            return new TournamentDeletionDTO(tournamentId, status, gamesDeleted, standingsDeleted, startedAt,
+                    finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory structures of the most recently read tournaments, one per tournament, loaded on first use and kept in
+ * an access-ordered map of at most {@code maxTournaments} entries.
+ * <p>
+ * Each entry is guarded by its own monitor, so reads and updates of different tournaments never wait for each
+ * other. An entry is published before it is loaded, so an update arriving while the load is running waits for it
+ * and is then applied on top.
+ */
+final class TournamentIndex<T> {
+    private final Function<Long, T> loader;
+    private final Map<Long, Entry<T>> entries;
+
+    TournamentIndex(int maxTournaments, Function<Long, T> loader) {
+        this.loader = loader;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<T>> eldest) {
+                return size() > maxTournaments;
+            }
+        });
+    }
+
+    /**
+     * Applies {@code reader} to the structure of a tournament, loading it first if needed. Callers must make sure
+     * the tournament exists, or unknown ids take the place of real tournaments.
+     */
+    <R> R read(Long tournamentId, Function<T, R> reader) {
+        Entry<T> entry = entries.computeIfAbsent(tournamentId, id -> new Entry<>());
+        synchronized (entry) {
+            if (entry.value == null) {
+                entry.value = loader.apply(tournamentId);
+            }
+            return reader.apply(entry.value);
+        }
+    }
+
+    /**
+     * Applies {@code writer} to the structure of a tournament if it is loaded. Tournaments that are not pick up
+     * the change when they are loaded.
+     */
+    void update(Long tournamentId, Consumer<T> writer) {
+        Entry<T> entry = entries.get(tournamentId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (entry.value != null) {
+                writer.accept(entry.value);
+            }
+        }
+    }
+
+    /**
+     * Drops the structure of a tournament; it is loaded again on next read.
+     */
+    void evict(Long tournamentId) {
+        entries.remove(tournamentId);
+    }
+
+    private static final class Entry<T> {
+        private T value;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Streams the rows of a per-tournament query through a forward-only, read-only cursor that fetches
+ * {@link #FETCH_SIZE} rows per round trip, so loading a large tournament never holds its whole result set.
+ */
+final class TournamentRows {
+    static final int FETCH_SIZE = 10_000;
+
+    private TournamentRows() {
+    }
+
+    /**
+     * Runs {@code sql}, whose only parameter is the tournament id, and hands every row to {@code handler}.
+     */
+    static void stream(JdbcTemplate jdbcTemplate, String sql, Long tournamentId, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, tournamentId);
+            return statement;
+        }, handler);
+    }
+}
@@ -1,160 +1,346 @@
 package org.example.service;
 
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import org.example.config.CacheConfig;
+import org.example.dto.GameScoreEntryDTO;
 import org.example.dto.GameScoreUpdateDTO;
+import org.example.dto.StandingsVerificationDTO;
+import org.example.dto.TournamentDTO;
 import org.example.dto.TournamentStatsDTO;
+import org.example.event.StandingsChangedEvent;
+import org.example.exception.ConcurrentUpdateException;
+import org.example.mapper.TournamentMapper;
 import org.example.model.Game;
-import org.example.model.Player;
 import org.example.model.PlayerTournament;
 import org.example.model.Tournament;
 import org.example.repository.GameRepository;
+import org.example.repository.PlayerRepository;
+import org.example.repository.PlayerTournamentRepository;
 import org.example.repository.TournamentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class TournamentService {
     private final TournamentRepository tournamentRepository;
     private final GameRepository gameRepository;
     private final GameService gameService;
+    private final PlayerTournamentRepository playerTournamentRepository;
+    private final TournamentMapper tournamentMapper;
+    private final PlayerRepository playerRepository;
+    private final ScoreWriteBuffer scoreWriteBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int scoreUpdateAttempts;
 
     @Autowired
     public TournamentService(TournamentRepository tournamentRepository,
                              GameService gameService,
-                             GameRepository gameRepository) {
+                             GameRepository gameRepository,
+                             PlayerTournamentRepository playerTournamentRepository,
+                             TournamentMapper tournamentMapper,
+                             PlayerRepository playerRepository,
+                             ScoreWriteBuffer scoreWriteBuffer,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${app.scores.update-attempts:3}") int scoreUpdateAttempts) {
         this.tournamentRepository = tournamentRepository;
         this.gameService = gameService;
         this.gameRepository = gameRepository;
+        this.playerTournamentRepository = playerTournamentRepository;
+        this.tournamentMapper = tournamentMapper;
+        this.playerRepository = playerRepository;
+        this.scoreWriteBuffer = scoreWriteBuffer;
+        this.eventPublisher = eventPublisher;
+        this.scoreUpdateAttempts = scoreUpdateAttempts;
     }
 
     public List<Tournament> findAll() {
         return tournamentRepository.findAll();
     }
 
-    public List<Game> getTournamentGames(Long tournamentId) {
-        return tournamentRepository.findById(tournamentId)
-                .map(gameRepository::findByTournament)
-                .orElse(Collections.emptyList());
+    /**
+     * Returns up to {@code limit} tournaments with an id greater than {@code after}, ordered by id.
+     */
+    public List<Tournament> findPage(Long after, int limit) {
+        return tournamentRepository.findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L, Limit.of(limit));
     }
 
-    public Optional<Tournament> findById(Long id) {
-        return tournamentRepository.findById(id);
+    /**
+     * Looks a tournament up, served from the tournaments cache.
+     */
+    @Cacheable(cacheNames = CacheConfig.TOURNAMENTS, key = "#id", unless = "#result == null")
+    public Optional<TournamentDTO> findById(Long id) {
+        return tournamentRepository.findById(id).map(tournamentMapper::toDTO);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#result.id")
     public Tournament save(Tournament tournament) {
-        return tournamentRepository.save(tournament);
+        // save() assigns the id of a new tournament, so tell creates from updates beforehand
+        boolean update = tournament.getId() != null;
+        Tournament saved = tournamentRepository.save(tournament);
+        if (update) {
+            tournamentRepository.incrementRevisions(List.of(saved.getId()));
+        }
+        return saved;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TOURNAMENT_STATS, key = "#id")
+    })
     public void delete(Long id) {
         tournamentRepository.deleteById(id);
+        eventPublisher.publishEvent(StandingsChangedEvent.allPlayers(id));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TOURNAMENTS, key = "#id")
     public Tournament update(Long id, Tournament tournamentDetails) {
-        return tournamentRepository.findById(id).map(tournament -> {
-            tournament.setName(tournamentDetails.getName());
-            return tournamentRepository.save(tournament);
-        }).orElseThrow(() -> new IllegalStateException("Tournament not found with id " + id));
+        if (!tournamentRepository.existsById(id)) {
+            throw new IllegalStateException("Tournament not found with id " + id);
+        }
+        Tournament tournament = tournamentRepository.getReferenceById(id);
+        tournament.setName(tournamentDetails.getName());
+        tournamentRepository.incrementRevisions(List.of(id));
+        return tournamentRepository.save(tournament);
     }
 
     public boolean existsById(Long id) {
         return tournamentRepository.existsById(id);
     }
 
-    @Transactional
+    /**
+     * Returns the current revision of a tournament, a counter bumped by every write visible through its endpoints.
+     */
+    public Optional<Long> getRevision(Long id) {
+        return tournamentRepository.findRevisionById(id);
+    }
+
+    /**
+     * Returns the entity tag of a tournament's reads: its revision, followed by the sequence of the last score
+     * update buffered for it when write-behind is on, so that buffered scores change the tag before they are flushed.
+     */
+    public Optional<String> getRevisionTag(Long id) {
+        return getRevision(id).map(revision -> {
+            long sequence = scoreWriteBuffer.getSequence(id);
+            return sequence > 0 ? revision + "." + sequence : String.valueOf(revision);
+        });
+    }
+
+    /**
+     * Hands an unconditional score update to the write-behind buffer. Returns {@code false} if the update has to
+     * be written synchronously instead: write-behind is off or the update carries an expected version.
+     */
+    public boolean bufferGameScores(Long gameId, GameScoreUpdateDTO scoreUpdate) {
+        return scoreUpdate.getExpectedVersion() == null
+                && scoreWriteBuffer.offer(gameId, scoreUpdate.getScore1(), scoreUpdate.getScore2());
+    }
+
+    /**
+     * Updates the scores of a game. With an expected version the update is a compare-and-set and any conflict
+     * surfaces as {@link ConcurrentUpdateException}. Without one the last writer wins: an attempt that loses
+     * a race is retried in a new transaction on fresh state, at most {@code app.scores.update-attempts} times.
+     * Deliberately not transactional, so each attempt commits or rolls back on its own.
+     */
+    @Timed(value = "tournament.service", extraTags = {"endpoint", "PUT /api/tournaments/games/{gameId}/scores"},
+            histogram = true, percentiles = {0.5, 0.95, 0.99})
     public Game updateGameScores(Long gameId, @Valid GameScoreUpdateDTO scoreUpdate) {
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new EntityNotFoundException("Game not found with id: " + gameId));
+        scoreWriteBuffer.flush(List.of(gameId));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return gameService.updateGameScore(gameId, scoreUpdate.getScore1(), scoreUpdate.getScore2(),
+                        scoreUpdate.getExpectedVersion());
+            } catch (OptimisticLockingFailureException e) {
+                if (scoreUpdate.getExpectedVersion() != null || attempt >= scoreUpdateAttempts) {
+                    throw new ConcurrentUpdateException("Game " + gameId + " was modified concurrently", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the scores of several games in one transaction, after writing any buffered scores of theirs so that
+     * those cannot overwrite this update later.
+     */
+    public List<Game> updateGameScores(List<GameScoreEntryDTO> scores) {
+        scoreWriteBuffer.flush(scores.stream().map(GameScoreEntryDTO::getGameId).collect(Collectors.toList()));
+        return gameService.updateGameScores(scores);
+    }
 
-        gameService.updateGameScore(gameId, scoreUpdate.getScore1(), scoreUpdate.getScore2());
-        return gameRepository.save(game);
+    /**
+     * Deletes a game and drops any score still buffered for it.
+     */
+    public void deleteGame(Long tournamentId, Long gameId) {
+        gameService.deleteGame(tournamentId, gameId);
+        scoreWriteBuffer.discard(gameId);
     }
 
     @Transactional
+    @Cacheable(cacheNames = CacheConfig.TOURNAMENT_STATS, key = "#tournamentId", unless = "#result == null")
+    @Timed(value = "tournament.service", extraTags = {"endpoint", "GET /api/tournaments/{id}/stats"},
+            histogram = true, percentiles = {0.5, 0.95, 0.99})
     public Optional<TournamentStatsDTO> getTournamentStats(Long tournamentId) {
-        return tournamentRepository.findById(tournamentId).map(tournament -> {
-            TournamentStatsDTO stats = new TournamentStatsDTO();
-            stats.setTournamentId(tournamentId);
-
-            List<Game> games = gameRepository.findByTournament(tournament);
-            stats.setTotalGames(games.size());
-
-            // Count games with both scores set
-            long completedGames = games.stream()
-                    .filter(game -> game.getScore1() != null && game.getScore2() != null)
-                    .count();
-            stats.setCompletedGames((int) completedGames);
-
-            List<PlayerTournament> playerTournaments = tournament.getPlayerStats();
-            Map<Long, TournamentStatsDTO.PlayerStats> playerStatsMap = new HashMap<>();
-
-            processGameResults(games, playerStatsMap);
-            updatePlayerTournamentStats(playerTournaments, playerStatsMap);
-            stats.setPlayerStats(new ArrayList<>(playerStatsMap.values()));
-            return stats;
-        });
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Optional.empty();
+        }
+        return Optional.of(buildStats(tournamentId,
+                playerTournamentRepository.findStandingsByTournamentId(tournamentId)));
+    }
+
+    /**
+     * Same as {@link #getTournamentStats(Long)} but with standings restricted to the given players.
+     */
+    @Transactional
+    public TournamentStatsDTO getTournamentStats(Long tournamentId, Collection<Long> playerIds) {
+        return buildStats(tournamentId, playerIds.isEmpty()
+                ? Collections.emptyList()
+                : playerTournamentRepository.findStandingsByTournamentIdAndPlayerIds(tournamentId, playerIds));
     }
 
-    private void processGameResults(List<Game> games, Map<Long, TournamentStatsDTO.PlayerStats> playerStatsMap) {
-        games.stream()
-            .filter(game -> game.getScore1() != null && game.getScore2() != null)
-            .forEach(game -> {
-                updatePlayerStats(playerStatsMap, game.getPlayer1(), game.getScore1(), game.getScore2());
-                updatePlayerStats(playerStatsMap, game.getPlayer2(), game.getScore2(), game.getScore1());
-            });
+    private TournamentStatsDTO buildStats(Long tournamentId, List<PlayerTournament> standings) {
+        TournamentStatsDTO stats = new TournamentStatsDTO();
+        stats.setTournamentId(tournamentId);
+        GameRepository.GameCounts counts = gameRepository.countGames(tournamentId);
+        stats.setTotalGames((int) counts.getTotalGames());
+        stats.setCompletedGames((int) counts.getCompletedGames());
+        stats.setPlayerStats(standings.stream()
+                .map(this::toPlayerStats)
+                .collect(Collectors.toList()));
+        return stats;
     }
 
-    private void updatePlayerTournamentStats(
-            List<PlayerTournament> playerTournaments,
-            Map<Long, TournamentStatsDTO.PlayerStats> playerStatsMap
-    ) {
-        for (PlayerTournament pt : playerTournaments) {
-            if (pt.getPlayer() != null) {
-                TournamentStatsDTO.PlayerStats playerStats = playerStatsMap.computeIfAbsent(
-                        pt.getPlayer().getId(),
-                        k -> new TournamentStatsDTO.PlayerStats());
+    /**
+     * Recomputes the materialized standings of a tournament from its games, repairing any drift.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TOURNAMENT_STATS, key = "#tournamentId")
+    public Optional<TournamentStatsDTO> rebuildStandings(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Optional.empty();
+        }
+        Tournament tournament = tournamentRepository.getReferenceById(tournamentId);
+        Map<Long, TournamentStatsDTO.PlayerStats> expected = aggregateResults(tournamentId);
+
+        Map<Long, PlayerTournament> rows = new HashMap<>();
+        for (PlayerTournament pt : playerTournamentRepository.findStandingsByTournamentId(tournamentId)) {
+            rows.put(pt.getPlayer().getId(), pt);
+        }
+        for (Long playerId : expected.keySet()) {
+            registerRow(rows, tournament, playerId);
+        }
+        for (Map.Entry<Long, PlayerTournament> entry : rows.entrySet()) {
+            copyStats(expected.get(entry.getKey()), entry.getValue());
+        }
+        playerTournamentRepository.saveAll(rows.values());
+        tournamentRepository.incrementRevisions(List.of(tournamentId));
+        eventPublisher.publishEvent(StandingsChangedEvent.allPlayers(tournamentId));
+        return getTournamentStats(tournamentId);
+    }
+
+    /**
+     * Compares the materialized standings with a full recompute from the tournament's games.
+     */
+    @Transactional
+    public Optional<StandingsVerificationDTO> verifyStandings(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            return Optional.empty();
+        }
+        Map<Long, TournamentStatsDTO.PlayerStats> expected = aggregateResults(tournamentId);
 
-                playerStats.setPlayerId(pt.getPlayer().getId());
-                playerStats.setPlayerName(pt.getPlayer().getName());
+        Set<Long> drifted = new TreeSet<>();
+        Set<Long> seen = new HashSet<>();
+        for (PlayerTournament pt : playerTournamentRepository.findStandingsByTournamentId(tournamentId)) {
+            Long playerId = pt.getPlayer().getId();
+            seen.add(playerId);
+            if (!sameStats(expected.get(playerId), pt)) {
+                drifted.add(playerId);
+            }
+        }
+        for (Long playerId : expected.keySet()) {
+            if (!seen.contains(playerId)) {
+                drifted.add(playerId);
             }
         }
+
+        StandingsVerificationDTO verification = new StandingsVerificationDTO();
+        verification.setTournamentId(tournamentId);
+        verification.setConsistent(drifted.isEmpty());
+        verification.setDriftedPlayerIds(new ArrayList<>(drifted));
+        return Optional.of(verification);
     }
 
-    private void updatePlayerStats(
-            Map<Long, TournamentStatsDTO.PlayerStats> playerStatsMap,
-            Player player,
-            int goalsFor,
-            int goalsAgainst
-    ) {
-        if (player == null) return;
-
-        TournamentStatsDTO.PlayerStats playerStats = playerStatsMap.computeIfAbsent(
-                player.getId(),
-                k -> {
-                    TournamentStatsDTO.PlayerStats ps = new TournamentStatsDTO.PlayerStats();
-                    ps.setPlayerId(player.getId());
-                    ps.setPlayerName(player.getName());
-                    return ps;
-                }
-        );
-
-        // Update player statistics
-        playerStats.setGamesPlayed(playerStats.getGamesPlayed() + 1);
-        playerStats.setGoalsFor(playerStats.getGoalsFor() + goalsFor);
-        playerStats.setGoalsAgainst(playerStats.getGoalsAgainst() + goalsAgainst);
-
-        if (goalsFor > goalsAgainst) {
-            playerStats.setWins(playerStats.getWins() + 1);
-        } else if (goalsFor == goalsAgainst) {
-            playerStats.setDraws(playerStats.getDraws() + 1);
-        } else {
-            playerStats.setLosses(playerStats.getLosses() + 1);
+    /**
+     * Standings of a tournament recomputed from its games by the database, keyed by player.
+     */
+    private Map<Long, TournamentStatsDTO.PlayerStats> aggregateResults(Long tournamentId) {
+        Map<Long, TournamentStatsDTO.PlayerStats> result = new HashMap<>();
+        for (GameRepository.PlayerResults row : gameRepository.aggregatePlayerResults(tournamentId)) {
+            TournamentStatsDTO.PlayerStats stats = new TournamentStatsDTO.PlayerStats();
+            stats.setPlayerId(row.getPlayerId());
+            stats.setGamesPlayed(row.getGamesPlayed());
+            stats.setWins(row.getWins());
+            stats.setDraws(row.getDraws());
+            stats.setLosses(row.getLosses());
+            stats.setGoalsFor(row.getGoalsFor());
+            stats.setGoalsAgainst(row.getGoalsAgainst());
+            result.put(row.getPlayerId(), stats);
+        }
+        return result;
+    }
+
+    private void registerRow(Map<Long, PlayerTournament> rows, Tournament tournament, Long playerId) {
+        if (rows.containsKey(playerId)) {
+            return;
         }
+        PlayerTournament row = new PlayerTournament();
+        row.setPlayer(playerRepository.getReferenceById(playerId));
+        row.setTournament(tournament);
+        rows.put(playerId, row);
+    }
+
+    private TournamentStatsDTO.PlayerStats toPlayerStats(PlayerTournament pt) {
+        TournamentStatsDTO.PlayerStats playerStats = new TournamentStatsDTO.PlayerStats();
+        playerStats.setPlayerId(pt.getPlayer().getId());
+        playerStats.setPlayerName(pt.getPlayer().getName());
+        playerStats.setGamesPlayed(pt.getGamesPlayed());
+        playerStats.setWins(pt.getWins());
+        playerStats.setDraws(pt.getDraws());
+        playerStats.setLosses(pt.getLosses());
+        playerStats.setGoalsFor(pt.getGoalsFor());
+        playerStats.setGoalsAgainst(pt.getGoalsAgainst());
+        return playerStats;
+    }
+
+    private void copyStats(TournamentStatsDTO.PlayerStats source, PlayerTournament target) {
+        TournamentStatsDTO.PlayerStats stats = source != null ? source : new TournamentStatsDTO.PlayerStats();
+        target.setGamesPlayed(stats.getGamesPlayed());
+        target.setWins(stats.getWins());
+        target.setDraws(stats.getDraws());
+        target.setLosses(stats.getLosses());
+        target.setGoalsFor(stats.getGoalsFor());
+        target.setGoalsAgainst(stats.getGoalsAgainst());
+    }
+
+    private boolean sameStats(TournamentStatsDTO.PlayerStats expected, PlayerTournament actual) {
+        TournamentStatsDTO.PlayerStats stats = expected != null ? expected : new TournamentStatsDTO.PlayerStats();
+        return stats.getGamesPlayed() == actual.getGamesPlayed()
+                && stats.getWins() == actual.getWins()
+                && stats.getDraws() == actual.getDraws()
+                && stats.getLosses() == actual.getLosses()
+                && stats.getGoalsFor() == actual.getGoalsFor()
+                && stats.getGoalsAgainst() == actual.getGoalsAgainst();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+-- Schema as previously generated by Hibernate from the entities (ddl-auto=update).
+-- Databases created by ddl-auto are not baselined, since their columns depend on the build that created them;
+-- they have to be recreated.
+
+create sequence games_seq start with 1 increment by 50;
+
+create table players (
+    id          bigint generated by default as identity,
+    name        varchar(100) not null,
+    rating      double precision not null default 1500,
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6),
+    constraint pk_players primary key (id)
+);
+
+create table teams (
+    id          bigint generated by default as identity,
+    name        varchar(100) not null,
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6),
+    constraint pk_teams primary key (id),
+    constraint uk_teams_name unique (name)
+);
+
+create table tournaments (
+    id              bigint generated by default as identity,
+    name            varchar(255) not null,
+    created_at      timestamp(6),
+    updated_at      timestamp(6),
+    revision        bigint not null default 0,
+    fixture_format  enum ('ROUND_ROBIN', 'DOUBLE_ROUND_ROBIN', 'KNOCKOUT'),
+    constraint pk_tournaments primary key (id)
+);
+
+create table games (
+    id             bigint not null,
+    player1_id     bigint,
+    player2_id     bigint,
+    team1_id       bigint,
+    team2_id       bigint,
+    score1         integer,
+    score2         integer,
+    round          integer,
+    rating_delta   double precision,
+    version        bigint not null,
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6),
+    tournament_id  bigint,
+    constraint pk_games primary key (id),
+    constraint fk_games_player1 foreign key (player1_id) references players (id),
+    constraint fk_games_player2 foreign key (player2_id) references players (id),
+    constraint fk_games_team1 foreign key (team1_id) references teams (id),
+    constraint fk_games_team2 foreign key (team2_id) references teams (id),
+    constraint fk_games_tournament foreign key (tournament_id) references tournaments (id)
+);
+
+create index idx_games_tournament_players on games (tournament_id, player1_id, player2_id);
+
+create table player_tournament (
+    player_id      bigint not null,
+    tournament_id  bigint not null,
+    games_played   integer not null,
+    wins           integer not null,
+    draws          integer not null,
+    losses         integer not null,
+    goals_for      integer not null,
+    goals_against  integer not null,
+    constraint pk_player_tournament primary key (player_id, tournament_id),
+    constraint fk_player_tournament_player foreign key (player_id) references players (id),
+    constraint fk_player_tournament_tournament foreign key (tournament_id) references tournaments (id)
+);
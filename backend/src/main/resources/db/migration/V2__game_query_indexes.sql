@@ -0,0 +1,23 @@
+-- Indexes shaped after the hot game queries. Columns after the filtering ones make an index covering, so the
+-- query is answered from the index alone without reading the rows.
+
+-- Game listings and exports: where tournament_id = ? order by id
+create index idx_games_tournament_id on games (tournament_id, id);
+
+-- Standings rebuilds, tournament stats, head-to-head and rating replays read the results of a tournament;
+-- the (tournament_id, player1_id, player2_id) prefix still serves head-to-head lookups of a single pair
+drop index idx_games_tournament_players;
+create index idx_games_tournament_results on games (tournament_id, player1_id, player2_id, score1, score2);
+
+-- Knockout rounds: max(round) and the games of one round
+create index idx_games_tournament_round on games (tournament_id, round);
+
+-- Per-player lookups, one index per side so that "player1_id = ? or player2_id = ?" becomes two index ranges
+create index idx_games_player1 on games (player1_id, tournament_id, score1, score2);
+create index idx_games_player2 on games (player2_id, tournament_id, score1, score2);
+
+create index idx_games_team1 on games (team1_id);
+create index idx_games_team2 on games (team2_id);
+
+-- Standings of a tournament; the primary key leads with player_id
+create index idx_player_tournament_tournament on player_tournament (tournament_id, player_id);
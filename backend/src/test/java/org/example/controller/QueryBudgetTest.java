@@ -0,0 +1,245 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.dto.CreateGameRequest;
+import org.example.dto.GameScoreUpdateDTO;
+import org.example.model.Player;
+import org.example.model.Team;
+import org.example.model.Tournament;
+import org.example.monitoring.QueryBudget;
+import org.example.service.GameService;
+import org.example.service.PlayerService;
+import org.example.service.TeamService;
+import org.example.service.TournamentService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Calls every handler annotated with {@link QueryBudget} against a tournament of several players with completed
+ * games and checks that it stays within its budget. The caches are cleared before each request, so the cold path
+ * is counted. Statements are counted by Hibernate's statistics, which do not see {@code JdbcTemplate} queries.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+    private static final int PLAYERS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private GameService gameService;
+
+    private Statistics statistics;
+    private Long tournamentId;
+    private final List<Long> playerIds = new ArrayList<>();
+    private Long team1Id;
+    private Long team2Id;
+    private Long scoredGameId;
+    private Long disposableGameId;
+
+    @BeforeAll
+    void createFixture() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Tournament tournament = new Tournament();
+        tournament.setName("Query Budget Cup");
+        tournamentId = tournamentService.save(tournament).getId();
+        team1Id = teamService.save(team("Query Budget Reds")).getId();
+        team2Id = teamService.save(team("Query Budget Blues")).getId();
+        for (int i = 1; i <= PLAYERS; i++) {
+            Player player = new Player();
+            player.setName("Budget Player " + i);
+            playerIds.add(playerService.save(player).getId());
+        }
+
+        // A full round robin with results, so standings and ratings have several rows
+        for (int i = 0; i < PLAYERS; i++) {
+            for (int j = i + 1; j < PLAYERS; j++) {
+                Long gameId = gameService.createGame(gameRequest(playerIds.get(i), playerIds.get(j))).getId();
+                tournamentService.updateGameScores(gameId, scores((i + j) % 4, j % 3));
+                if (scoredGameId == null) {
+                    scoredGameId = gameId;
+                }
+            }
+        }
+        // Scored, so that deleting it reverts standings and ratings
+        disposableGameId = gameService.createGame(gameRequest(playerIds.get(0), playerIds.get(1))).getId();
+        tournamentService.updateGameScores(disposableGameId, scores(2, 2));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgetedRequests")
+    void staysWithinQueryBudget(String handler, MockHttpServletRequestBuilder request) throws Exception {
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+        statistics.clear();
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        long statements = statistics.getPrepareStatementCount();
+
+        HandlerMethod handlerMethod = (HandlerMethod) result.getHandler();
+        assertThat(name(handlerMethod)).isEqualTo(handler);
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        assertThat(budget).as("@QueryBudget on %s", handler).isNotNull();
+        assertThat(statements).as("SQL statements issued by %s", handler).isLessThanOrEqualTo(budget.value());
+    }
+
+    @Test
+    void everyBudgetedHandlerIsCalled() {
+        Set<String> budgeted = handlerMapping.getHandlerMethods().values().stream()
+                .filter(handlerMethod -> handlerMethod.hasMethodAnnotation(QueryBudget.class))
+                .map(QueryBudgetTest::name)
+                .collect(Collectors.toSet());
+        Set<String> called = budgetedRequests()
+                .map(arguments -> (String) arguments.get()[0])
+                .collect(Collectors.toSet());
+        assertThat(called).isEqualTo(budgeted);
+    }
+
+    /**
+     * One request per budgeted handler. Reads come first; the writes at the end only touch their own game.
+     */
+    Stream<Arguments> budgetedRequests() {
+        Long playerId = playerIds.get(0);
+        Long opponentId = playerIds.get(1);
+        return Stream.of(
+                arguments("PlayerController#getAllPlayers", get("/api/players")),
+                arguments("PlayerController#getPlayersPage", get("/api/players").param("limit", "3")),
+                arguments("PlayerController#getPlayerById", get("/api/players/{id}", playerId)),
+                arguments("PlayerController#getCareer",
+                        get("/api/players/{id}/career", playerId).param("byTournament", "true")),
+                arguments("PlayerController#getCareers",
+                        get("/api/players/career")
+                                .param("ids", playerIds.stream().map(String::valueOf).toArray(String[]::new))
+                                .param("byTournament", "true")),
+                arguments("TeamController#getAllTeams", get("/api/teams")),
+                arguments("TeamController#getTeamsPage", get("/api/teams").param("limit", "1")),
+                arguments("TeamController#getTeamById", get("/api/teams/{id}", team1Id)),
+                arguments("RatingController#getPlayerRating", get("/api/ratings/players/{playerId}", playerId)),
+                arguments("RatingController#getTopRated", get("/api/ratings/top").param("limit", "5")),
+                arguments("TournamentController#getAllTournaments", get("/api/tournaments")),
+                arguments("TournamentController#getTournamentsPage", get("/api/tournaments").param("limit", "1")),
+                arguments("TournamentController#getTournamentById", get("/api/tournaments/{id}", tournamentId)),
+                arguments("TournamentController#getTournamentGames",
+                        get("/api/tournaments/{id}/games", tournamentId)),
+                arguments("TournamentController#getTournamentStats",
+                        get("/api/tournaments/{id}/stats", tournamentId)),
+                arguments("TournamentController#getLeaderboard",
+                        get("/api/tournaments/{id}/leaderboard", tournamentId).param("limit", "3")),
+                arguments("TournamentController#getLeaderboardStanding",
+                        get("/api/tournaments/{id}/leaderboard/players/{playerId}", tournamentId, playerId)),
+                arguments("TournamentController#getHeadToHead",
+                        get("/api/tournaments/{id}/head-to-head", tournamentId)
+                                .param("p1", playerId.toString())
+                                .param("p2", opponentId.toString())),
+                arguments("TournamentController#getOpponentRecords",
+                        get("/api/tournaments/{id}/head-to-head/{playerId}", tournamentId, playerId)),
+                arguments("TournamentController#verifyStandings",
+                        get("/api/tournaments/{id}/standings/verify", tournamentId)),
+                arguments("TournamentController#updateGameScores",
+                        put("/api/tournaments/games/{gameId}/scores", scoredGameId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(scores(3, 1)))),
+                arguments("TournamentController#addGameToTournament",
+                        post("/api/tournaments/{tournamentId}/games", tournamentId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(gameRequest(playerIds.get(2), playerIds.get(3))))),
+                arguments("TournamentController#deleteGame",
+                        delete("/api/tournaments/{tournamentId}/games/{gameId}", tournamentId, disposableGameId)));
+    }
+
+    private static String name(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+    }
+
+    private static Team team(String name) {
+        Team team = new Team();
+        team.setName(name);
+        return team;
+    }
+
+    private CreateGameRequest gameRequest(Long player1Id, Long player2Id) {
+        CreateGameRequest request = new CreateGameRequest();
+        request.setPlayer1Id(player1Id);
+        request.setPlayer2Id(player2Id);
+        request.setTeam1Id(team1Id);
+        request.setTeam2Id(team2Id);
+        request.setTournamentId(tournamentId);
+        return request;
+    }
+
+    private static GameScoreUpdateDTO scores(int score1, int score2) {
+        GameScoreUpdateDTO scores = new GameScoreUpdateDTO();
+        scores.setScore1(score1);
+        scores.setScore2(score2);
+        return scores;
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
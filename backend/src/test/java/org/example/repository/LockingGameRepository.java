@@ -0,0 +1,20 @@
+package org.example.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.model.Game;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Select-for-update access to games, the pessimistic alternative the score contention test compares the
+ * version check against.
+ */
+public interface LockingGameRepository extends Repository<Game, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Game g where g.id = :id")
+    Optional<Game> findLockedById(@Param("id") Long id);
+}
@@ -0,0 +1,216 @@
+package org.example.service;
+
+import org.example.dto.CreateGameRequest;
+import org.example.dto.GameScoreUpdateDTO;
+import org.example.exception.ConcurrentUpdateException;
+import org.example.model.Game;
+import org.example.model.Player;
+import org.example.model.Team;
+import org.example.model.Tournament;
+import org.example.repository.GameRepository;
+import org.example.repository.LockingGameRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several threads add one goal at a time to the same game through read-modify-write cycles: without any guard,
+ * with the optimistic version check of {@link TournamentService#updateGameScores} and holding a
+ * {@code PESSIMISTIC_WRITE} lock on the game. In the first round every thread reads the score before any of them
+ * writes, so the race is certain rather than left to the scheduler. The test runs on its own database with a lock
+ * timeout long enough for the queued writers, and with enough internal retries that a last-writer-wins update
+ * never gives up.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:contention;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "app.scores.update-attempts=" + ScoreContentionTest.THREADS
+})
+class ScoreContentionTest {
+    private static final Logger log = LoggerFactory.getLogger(ScoreContentionTest.class);
+    static final int THREADS = 4;
+    private static final int INCREMENTS = 10;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private LockingGameRepository lockingGameRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void unguardedIncrementsAreLost() throws Exception {
+        Long gameId = createGame("Unguarded");
+
+        runIncrements(1, afterRead -> {
+            Game game = gameRepository.findById(gameId).orElseThrow();
+            afterRead.run();
+            tournamentService.updateGameScores(gameId, scores(game.getScore1() + 1, game.getScore2()));
+        });
+
+        // Every thread read 0 and wrote 1; the internal retries only repeat the stale write
+        assertThat(score1(gameId)).isEqualTo(1);
+    }
+
+    @Test
+    void optimisticIncrementsAreNeverLost() throws Exception {
+        Long gameId = createGame("Optimistic");
+        AtomicLong conflicts = new AtomicLong();
+
+        long elapsed = runIncrements(INCREMENTS, afterRead -> {
+            Runnable pause = afterRead;
+            while (true) {
+                Game game = gameRepository.findById(gameId).orElseThrow();
+                pause.run();
+                pause = () -> { };
+                GameScoreUpdateDTO update = scores(game.getScore1() + 1, game.getScore2());
+                update.setExpectedVersion(game.getVersion());
+                try {
+                    tournamentService.updateGameScores(gameId, update);
+                    return;
+                } catch (ConcurrentUpdateException e) {
+                    // Answered with 409 over HTTP; the client re-reads and tries again
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        log.info("Optimistic: {} increments on {} threads in {} ms with {} conflicts",
+                THREADS * INCREMENTS, THREADS, elapsed, conflicts.get());
+        assertThat(score1(gameId)).isEqualTo(THREADS * INCREMENTS);
+        // Only one of the writers that read the same version in the first round can win
+        assertThat(conflicts.get()).isGreaterThanOrEqualTo(THREADS - 1);
+    }
+
+    @Test
+    void pessimisticIncrementsAreNeverLost() throws Exception {
+        Long gameId = createGame("Pessimistic");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // The lock holder cannot wait for the other readers, so the first round is not lined up here
+        long elapsed = runIncrements(INCREMENTS, afterRead -> transactionTemplate.executeWithoutResult(status -> {
+            Game game = lockingGameRepository.findLockedById(gameId).orElseThrow();
+            gameService.updateGameScore(gameId, game.getScore1() + 1, game.getScore2(), null);
+        }));
+
+        log.info("Pessimistic: {} increments on {} threads in {} ms", THREADS * INCREMENTS, THREADS, elapsed);
+        assertThat(score1(gameId)).isEqualTo(THREADS * INCREMENTS);
+    }
+
+    /**
+     * One read-modify-write of the score. {@code afterRead} must run between reading and writing; it holds the
+     * first round of every thread until all of them have read.
+     */
+    @FunctionalInterface
+    private interface Increment {
+        void run(Runnable afterRead) throws Exception;
+    }
+
+    /**
+     * Runs {@code increments} increments on each of {@code THREADS} threads started together and returns the
+     * elapsed milliseconds. Any failure of an increment fails the test.
+     */
+    private long runIncrements(int increments, Increment increment) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CyclicBarrier firstRead = new CyclicBarrier(THREADS);
+        try {
+            List<Future<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Callable<Void> worker = () -> {
+                    start.await();
+                    for (int j = 0; j < increments; j++) {
+                        increment.run(j == 0 ? () -> await(firstRead) : () -> { });
+                    }
+                    return null;
+                };
+                workers.add(executor.submit(worker));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<Void> worker : workers) {
+                worker.get(1, TimeUnit.MINUTES);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Threads did not line up for the first read", e);
+        }
+    }
+
+    private Long createGame(String label) {
+        Tournament tournament = new Tournament();
+        tournament.setName(label + " Contention Cup");
+        Long tournamentId = tournamentService.save(tournament).getId();
+
+        CreateGameRequest request = new CreateGameRequest();
+        request.setTournamentId(tournamentId);
+        request.setPlayer1Id(playerService.save(player(label + " Home")).getId());
+        request.setPlayer2Id(playerService.save(player(label + " Away")).getId());
+        request.setTeam1Id(teamService.save(team(label + " Reds")).getId());
+        request.setTeam2Id(teamService.save(team(label + " Blues")).getId());
+        Long gameId = gameService.createGame(request).getId();
+        tournamentService.updateGameScores(gameId, scores(0, 0));
+        return gameId;
+    }
+
+    private int score1(Long gameId) {
+        return gameRepository.findById(gameId).orElseThrow().getScore1();
+    }
+
+    private static Player player(String name) {
+        Player player = new Player();
+        player.setName(name);
+        return player;
+    }
+
+    private static Team team(String name) {
+        Team team = new Team();
+        team.setName(name);
+        return team;
+    }
+
+    private static GameScoreUpdateDTO scores(int score1, int score2) {
+        GameScoreUpdateDTO scores = new GameScoreUpdateDTO();
+        scores.setScore1(score1);
+        scores.setScore2(score2);
+        return scores;
+    }
+}
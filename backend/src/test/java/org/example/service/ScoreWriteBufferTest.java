@@ -0,0 +1,132 @@
+package org.example.service;
+
+import org.example.dto.CreateGameRequest;
+import org.example.dto.GameDTO;
+import org.example.dto.GameScoreEntryDTO;
+import org.example.dto.GameScoreUpdateDTO;
+import org.example.exception.ConcurrentUpdateException;
+import org.example.model.Game;
+import org.example.model.Player;
+import org.example.model.Team;
+import org.example.model.Tournament;
+import org.example.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A score is buffered, then a synchronous write to the same game runs before the buffer is flushed. The buffered
+ * score was accepted first, so the synchronous write must be the one left in the database. The scheduled flush is
+ * pushed out of the way so that every flush happens where the test calls it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write-behind;DB_CLOSE_DELAY=-1",
+        "app.scores.write-behind.enabled=true",
+        "app.scores.write-behind.flush-interval-ms=3600000"
+})
+class ScoreWriteBufferTest {
+    @Autowired
+    private ScoreWriteBuffer scoreWriteBuffer;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void conditionalWriteIsNotOverwrittenByBufferedScore() {
+        Game game = createGame("Conditional");
+        assertThat(tournamentService.bufferGameScores(game.getId(), scores(5, 0))).isTrue();
+
+        // The buffered score is written first, so a version read before it is stale
+        assertThatThrownBy(() -> tournamentService.updateGameScores(game.getId(), scores(1, 1, game.getVersion())))
+                .isInstanceOf(ConcurrentUpdateException.class);
+        Game current = gameRepository.findById(game.getId()).orElseThrow();
+        assertThat(current.getScore1()).isEqualTo(5);
+
+        tournamentService.updateGameScores(game.getId(), scores(1, 1, current.getVersion()));
+        scoreWriteBuffer.flush();
+
+        assertThat(gameRepository.findById(game.getId()).orElseThrow().getScore1()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkWriteIsNotOverwrittenByBufferedScore() {
+        Game game = createGame("Bulk");
+        assertThat(tournamentService.bufferGameScores(game.getId(), scores(5, 0))).isTrue();
+
+        GameScoreEntryDTO entry = new GameScoreEntryDTO();
+        entry.setGameId(game.getId());
+        entry.setScore1(1);
+        entry.setScore2(1);
+        tournamentService.updateGameScores(List.of(entry));
+        scoreWriteBuffer.flush();
+
+        assertThat(gameRepository.findById(game.getId()).orElseThrow().getScore1()).isEqualTo(1);
+    }
+
+    @Test
+    void deletedGameDropsBufferedScore() {
+        Game game = createGame("Deleted");
+        assertThat(tournamentService.bufferGameScores(game.getId(), scores(5, 0))).isTrue();
+
+        tournamentService.deleteGame(game.getTournament().getId(), game.getId());
+
+        GameDTO row = new GameDTO();
+        row.setId(game.getId());
+        assertThat(scoreWriteBuffer.overlay(row).getScore1()).isNull();
+    }
+
+    private Game createGame(String label) {
+        Tournament tournament = new Tournament();
+        tournament.setName(label + " Write-Behind Cup");
+        Long tournamentId = tournamentService.save(tournament).getId();
+
+        CreateGameRequest request = new CreateGameRequest();
+        request.setTournamentId(tournamentId);
+        request.setPlayer1Id(playerService.save(player(label + " Home")).getId());
+        request.setPlayer2Id(playerService.save(player(label + " Away")).getId());
+        request.setTeam1Id(teamService.save(team(label + " Reds")).getId());
+        request.setTeam2Id(teamService.save(team(label + " Blues")).getId());
+        return gameService.createGame(request);
+    }
+
+    private static Player player(String name) {
+        Player player = new Player();
+        player.setName(name);
+        return player;
+    }
+
+    private static Team team(String name) {
+        Team team = new Team();
+        team.setName(name);
+        return team;
+    }
+
+    private static GameScoreUpdateDTO scores(int score1, int score2) {
+        return scores(score1, score2, null);
+    }
+
+    private static GameScoreUpdateDTO scores(int score1, int score2, Long expectedVersion) {
+        GameScoreUpdateDTO scores = new GameScoreUpdateDTO();
+        scores.setScore1(score1);
+        scores.setScore2(score2);
+        scores.setExpectedVersion(expectedVersion);
+        return scores;
+    }
+}
@@ -669,6 +669,8 @@ export class TournamentsComponent implements OnInit, OnDestroy {
         
         // Reload the tournaments to get the updated list from the server
         await this.loadTournaments();
+        // Deletion finishes in the background, so the tournament may still be listed for a moment
+        this.tournaments = this.tournaments.filter(t => t.id !== tournamentId);
         
         // Reset pagination if we're on a page that no longer exists
         const totalPages = Math.ceil(this.tournaments.length / this.pageSize);